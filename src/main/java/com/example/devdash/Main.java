@@ -2,6 +2,7 @@ package com.example.devdash;
 
 import com.example.devdash.helper.ui.FXMLUtils;
 import com.example.devdash.helper.ui.Theme;
+import com.example.devdash.model.todo.TaskRepository;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.text.Font;
@@ -43,6 +44,14 @@ public class Main extends Application {
         stage.show();
     }
 
+    /**
+     * Called when the application exits. Writes any task changes not yet persisted.
+     */
+    @Override
+    public void stop() {
+        TaskRepository.flushAll();
+    }
+
     /**
      * Changes the root of the primary scene to a new FXML view
      *
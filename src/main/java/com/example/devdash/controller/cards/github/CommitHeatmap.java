@@ -1,91 +1,246 @@
 package com.example.devdash.controller.cards.github;
 
+import com.example.devdash.model.github.DailyCommitCounts.YearCounts;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Tooltip;
-import javafx.scene.layout.GridPane;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Background;
 import javafx.scene.layout.Region;
-import javafx.util.Duration;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.transform.Transform;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Manages a GitHub-style commit heatmap for a full year.
+ * The heatmap is drawn on a single Canvas; each rendered year is cached as an
+ * image so switching between years is a blit, and one shared tooltip is driven
+ * by hit testing the mouse position.
  *
  * Author: Alexander Sukhin
- * Version: 25/08/2025
+ * Version: 19/10/2026
  */
 public class CommitHeatmap {
 
-    private GridPane grid;
+    private static final double CELL_SIZE = 12;
+    private static final double CELL_GAP = 3;
+    private static final double CELL_STEP = CELL_SIZE + CELL_GAP;
+    private static final double CELL_ARC = 6;
+    private static final int WEEKS = 54;
+    private static final int DAYS_PER_WEEK = 7;
+
+    private static final Color LEVEL_1 = Color.web("#9be9a8");
+    private static final Color LEVEL_2 = Color.web("#40c463");
+    private static final Color LEVEL_3 = Color.web("#30a14e");
+    private static final Color LEVEL_4 = Color.web("#216e39");
+    private static final Color DEFAULT_EMPTY = Color.web("#EBEDF0");
+
+    private final Canvas canvas;
+    private final Region cellStyle;
+    private final Tooltip tooltip = new Tooltip();
+    private String valueLabel = "Commits";
+    private final Map<Integer, WritableImage> renderedYears = new HashMap<>();
+
+    private static final Color[] LEVEL_COLORS = {Color.TRANSPARENT, LEVEL_1, LEVEL_2, LEVEL_3, LEVEL_4};
+
+    private YearCounts displayedCounts;
+    private LocalDate displayedFirstDay;
+    private int displayedYear;
+    private LocalDate hoveredDate;
 
     /**
      * Constructor for CommitHeatmap.
      *
-     * @param grid GridPane where heatmap cells will be added
+     * @param canvas    Canvas the heatmap is drawn on
+     * @param cellStyle Hidden region styled with the theme's empty cell colour
      */
-    public CommitHeatmap(GridPane grid) {
-        this.grid = grid;
+    public CommitHeatmap(Canvas canvas, Region cellStyle) {
+        this.canvas = canvas;
+        this.cellStyle = cellStyle;
+
+        canvas.setWidth(WEEKS * CELL_STEP - CELL_GAP);
+        canvas.setHeight(DAYS_PER_WEEK * CELL_STEP - CELL_GAP);
+        canvas.addEventHandler(MouseEvent.MOUSE_MOVED, this::onMouseMoved);
+        canvas.addEventHandler(MouseEvent.MOUSE_EXITED, e -> hideTooltip());
+
+        // Empty cells follow the theme, so cached images are stale once it changes
+        cellStyle.backgroundProperty().addListener((obs, oldVal, newVal) -> renderedYears.clear());
     }
 
 
+    /**
+     * Sets what the day values are called in the tooltip, e.g. "Lines changed".
+     *
+     * @param valueLabel Name of the value shown for each day
+     */
+    public void setValueLabel(String valueLabel) {
+        this.valueLabel = valueLabel;
+    }
+
     /**
      * Populates the heatmap for a full year based on daily commit counts.
+     * Reuses the cached image for the year if one has been rendered.
      *
-     * @param dailyCounts Map of LocalDate to number of commits
-     * @param year        The year to populate
+     * @param yearCounts Commit counts of the year, or null if it has no commits
+     * @param year       The year to populate
      */
-    public void populateHeatMapFullYear(Map<LocalDate, Integer> dailyCounts, int year) {
-        grid.getChildren().clear();
+    public void populateHeatMapFullYear(YearCounts yearCounts, int year) {
+        displayedCounts = yearCounts;
+        displayedFirstDay = firstDayOfGrid(year);
+        displayedYear = year;
+        hideTooltip();
+
+        WritableImage image = renderedYears.get(year);
+        if (image == null) {
+            drawYear(yearCounts, year);
+            renderedYears.put(year, snapshot());
+        } else {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            gc.drawImage(image, 0, 0, canvas.getWidth(), canvas.getHeight());
+        }
+    }
 
-        LocalDate firstDay = LocalDate.of(year,1,1);
-        LocalDate lastDay = LocalDate.of(year,12,31);
+    /**
+     * Draws every day cell of the year onto the canvas.
+     * Days of the previous year in the first week are drawn empty.
+     *
+     * @param yearCounts Commit counts of the year, or null if it has no commits
+     * @param year       The year to draw
+     */
+    private void drawYear(YearCounts yearCounts, int year) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        Paint emptyFill = emptyCellFill();
+        int offset = LocalDate.of(year, 1, 1).getDayOfWeek().getValue() % DAYS_PER_WEEK;
+        int cells = offset + LocalDate.of(year, 1, 1).lengthOfYear();
+
+        for (int i = 0; i < cells; i++) {
+            int level = yearCounts == null ? 0 : yearCounts.getLevel(i - offset);
+            gc.setFill(level > 0 ? LEVEL_COLORS[level] : emptyFill);
+            gc.fillRoundRect((i / DAYS_PER_WEEK) * CELL_STEP, (i % DAYS_PER_WEEK) * CELL_STEP,
+                    CELL_SIZE, CELL_SIZE, CELL_ARC, CELL_ARC);
+        }
+    }
 
-        while (firstDay.getDayOfWeek() != DayOfWeek.SUNDAY) {
-            firstDay = firstDay.minusDays(1);
+    /**
+     * Captures the canvas at the screen's output scale.
+     *
+     * @return Image of the current canvas contents
+     */
+    private WritableImage snapshot() {
+        double scale = canvas.getScene() != null && canvas.getScene().getWindow() != null
+                ? canvas.getScene().getWindow().getOutputScaleX()
+                : 1;
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(scale, scale));
+        return canvas.snapshot(params, null);
+    }
+
+    /**
+     * Shows the shared tooltip for the day cell under the mouse, if any.
+     *
+     * @param e Mouse move event on the canvas
+     */
+    private void onMouseMoved(MouseEvent e) {
+        LocalDate date = dateAt(e.getX(), e.getY());
+        if (date == null) {
+            hideTooltip();
+            return;
         }
+        if (date.equals(hoveredDate)) return;
 
-        long totalDays = ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
-        for (int i=0; i<totalDays; i++) {
-            LocalDate date = firstDay.plusDays(i);
-            int count = dailyCounts.getOrDefault(date,0);
+        hoveredDate = date;
+        int count = displayedCounts == null || date.getYear() != displayedYear ? 0 : displayedCounts.get(date);
+        tooltip.setText(date + "\n" + valueLabel + ": " + count);
+        tooltip.show(canvas, e.getScreenX() + 10, e.getScreenY() + 10);
+    }
 
-            Region cell = new Region();
-            cell.getStyleClass().add("cell-background");
+    /**
+     * Hit tests a point against the day cells.
+     *
+     * @param x X coordinate within the canvas
+     * @param y Y coordinate within the canvas
+     * @return Date of the cell at the point, or null if the point is in a gap or outside the year
+     */
+    private LocalDate dateAt(double x, double y) {
+        if (displayedFirstDay == null || x < 0 || y < 0) return null;
 
-            if (count > 0) cell.setStyle("-fx-background-color: " + getColor(count) + ";");
+        int week = (int) (x / CELL_STEP);
+        int day = (int) (y / CELL_STEP);
+        if (day >= DAYS_PER_WEEK || x - week * CELL_STEP > CELL_SIZE || y - day * CELL_STEP > CELL_SIZE) return null;
 
-            Tooltip tooltip = new Tooltip(date + "\nCommits: " + count);
-            tooltip.setShowDelay(Duration.millis(100));
-            Tooltip.install(cell, tooltip);
+        LocalDate date = displayedFirstDay.plusDays((long) week * DAYS_PER_WEEK + day);
+        return date.isAfter(LocalDate.of(displayedYear, 12, 31)) ? null : date;
+    }
+
+    /**
+     * Hides the shared tooltip.
+     */
+    private void hideTooltip() {
+        hoveredDate = null;
+        tooltip.hide();
+    }
 
-            int week = i/7;
-            int dayOfWeek = date.getDayOfWeek().getValue()%7;
-            grid.add(cell, week, dayOfWeek);
+    /**
+     * Returns the Sunday on or before the first day of the year,
+     * which is drawn in the top-left cell.
+     *
+     * @param year The year
+     * @return First date drawn on the grid
+     */
+    private LocalDate firstDayOfGrid(int year) {
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        while (firstDay.getDayOfWeek() != DayOfWeek.SUNDAY) {
+            firstDay = firstDay.minusDays(1);
         }
+        return firstDay;
+    }
+
+    /**
+     * @return Fill for days without commits, taken from the theme's cell-background style
+     */
+    private Paint emptyCellFill() {
+        Background background = cellStyle.getBackground();
+        if (background == null || background.getFills().isEmpty()) return DEFAULT_EMPTY;
+        return background.getFills().get(0).getFill();
     }
 
 
     /**
-     * Returns a color for a cell based on the number of commits.
+     * Drops all cached year images, e.g. after the commit counts change.
+     */
+    public void invalidate() {
+        renderedYears.clear();
+    }
+
+    /**
+     * Drops the cached images of some years, e.g. after only their counts change.
      *
-     * @param count Number of commits on a day
-     * @return Hex color string
+     * @param years Years whose counts changed
      */
-    private String getColor(int count) {
-        if (count <= 0) return "transparent";
-        if (count == 1) return "#9be9a8";
-        if (count == 2) return "#40c463";
-        if (count == 3) return "#30a14e";
-        return "#216e39";
+    public void invalidateYears(Collection<Integer> years) {
+        renderedYears.keySet().removeAll(years);
     }
 
 
     /**
-     * Clears the heatmap from the GridPane.
+     * Clears the heatmap from the canvas.
      */
     public void clear() {
-        grid.getChildren().clear();
+        invalidate();
+        hideTooltip();
+        displayedFirstDay = null;
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.example.devdash.controller.cards.github;
+
+import com.example.devdash.model.github.Commit;
+import javafx.scene.control.ListCell;
+
+/**
+ * List cell for a commit in the GitHub card's commit list.
+ * Cells are reused by the ListView as it scrolls, so only the
+ * visible rows exist however many commits are loaded.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitListCell extends ListCell<Commit> {
+
+    /**
+     * Constructor sets the row style once per cell.
+     */
+    public CommitListCell() {
+        setStyle("-fx-font-size: 14px;");
+    }
+
+    /**
+     * Shows the commit, with its size once it has been fetched.
+     *
+     * @param commit Commit in this row, or null
+     * @param empty  True if the row has no commit
+     */
+    @Override
+    protected void updateItem(Commit commit, boolean empty) {
+        super.updateItem(commit, empty);
+        if (empty || commit == null) {
+            setText(null);
+            return;
+        }
+
+        String text = commit + " (" + commit.getFormattedCommittedAt() + ")";
+        setText(commit.getStats() == null ? text : text + "  " + commit.getStats());
+    }
+}
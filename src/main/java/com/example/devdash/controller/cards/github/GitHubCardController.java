@@ -3,41 +3,82 @@ package com.example.devdash.controller.cards.github;
 import com.example.devdash.controller.cards.DashboardCard;
 import com.example.devdash.helper.data.Session;
 import com.example.devdash.model.github.Commit;
+import com.example.devdash.model.github.DailyCommitCounts;
+import com.example.devdash.model.github.GitHubSyncScheduler;
+import com.example.devdash.model.github.LocalGitSource;
 import com.example.devdash.model.auth.LoginModel;
 import com.example.devdash.model.auth.User;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.*;
-import javafx.scene.layout.GridPane;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-import org.kohsuke.github.GHRepository;
+import javafx.stage.DirectoryChooser;
 
+import java.io.File;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Controller for the GitHub card in the dashboard.
  * Handles UI events, FXML bindings, and delegates API calls to GitHubCardService.
  *
  * Author: Alexander Sukhin
- * Version: 25/08/2025
+ * Version: 19/10/2026
  */
 public class GitHubCardController implements DashboardCard {
 
     @FXML private Node rootNode;
-    @FXML private VBox commitsContainer;
+    @FXML private ListView<Commit> commitsList;
     @FXML private Label linkText;
+    @FXML private Label syncText;
     @FXML private Button linkButton;
-    @FXML private GridPane heatmapGridPane;
+    @FXML private Canvas heatmapCanvas;
+    @FXML private Region heatmapCellStyle;
     @FXML private VBox yearButtonsContainer;
     @FXML private ComboBox<String> repoSelected;
     @FXML private DatePicker startSelected;
     @FXML private DatePicker endSelected;
+    @FXML private CheckBox churnMode;
+    @FXML private TextField searchField;
 
     private GitHubCardService githubService;
     private CommitHeatmap heatmap;
     private YearButtonsManager yearButtonsManager;
+    private DailyCommitCounts renderedCounts;
+    private int displayedYear = LocalDate.now().getYear();
+    private final ObservableList<Commit> commitItems = FXCollections.observableArrayList();
+    private final Set<String> shownShas = new HashSet<>();
+    private List<Commit> fetchedCommits = List.of();
+    private VirtualFlow<?> commitsFlow;
+    private String filterRepo;
+    private LocalDate filterStart;
+    private LocalDate filterEnd;
+    private boolean pagingEnabled;
+    private boolean loadingPage;
+
+    private static final DateTimeFormatter SYNC_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final Comparator<Commit> NEWEST_FIRST =
+            Comparator.comparing(Commit::getCommittedAt).reversed().thenComparing(Commit::getSha, Comparator.reverseOrder());
+
+    // Start loading the next page when this close to the end of the list
+    private static final int PAGE_PREFETCH_ROWS = 20;
 
 
     /**
@@ -53,35 +94,114 @@ public class GitHubCardController implements DashboardCard {
         int userID = user.getID();
 
         githubService = new GitHubCardService(loginModel, userID, user.getAccessToken());
-        heatmap = new CommitHeatmap(heatmapGridPane);
+        heatmap = new CommitHeatmap(heatmapCanvas, heatmapCellStyle);
         yearButtonsManager = new YearButtonsManager(yearButtonsContainer, this);
+        commitsList.setItems(commitItems);
+        commitsList.setCellFactory(list -> new CommitListCell());
+        commitsList.skinProperty().addListener((obs, oldSkin, newSkin) -> attachScrollListener());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> onSearchChanged(newVal));
+        // The card leaves the scene when hidden from the dashboard or on logout
+        rootNode.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene == null) githubService.stopSync();
+            else githubService.startSync(this);
+        });
 
         updateUI();
     }
 
     /**
      * Updates all UI components based on GitHub link status.
-     * Shows linked username, updates repository list, year buttons, and commits.
+     * Renders the cached username and locally synced data straight away and
+     * connects in the background; data is synced once the connection completes.
      */
     private void updateUI() {
-        commitsContainer.getChildren().clear();
+        commitItems.clear();
+        shownShas.clear();
+        fetchedCommits = List.of();
+        pagingEnabled = false;
         heatmap.clear();
         yearButtonsManager.clear();
+        syncText.setText("");
 
         if (githubService.isLinked()) {
-            linkText.setText("Linked as " + githubService.getGhUsername());
+            String username = githubService.getGhUsername();
+            linkText.setText(username != null ? "Linked as " + username : "Connecting...");
             linkButton.setText("[Unlink Github]");
-            githubService.fetchRepositories(this);
-            yearButtonsManager.populateYearButtons();
-            applyFilter();
+            githubService.connect(this);
         } else {
             linkText.setText("Not Linked");
             linkButton.setText("[Link Github]");
         }
 
+        // Locally synced and local repository data is shown straight away
+        yearButtonsManager.populateYearButtons();
+        githubService.fetchRepositories(this);
+        applyFilter();
+
         configureLinkButton();
     }
 
+    /**
+     * Called on the JavaFX thread once the token has been validated.
+     * Shows the validated username and loads repositories and commits.
+     */
+    public void onConnected() {
+        linkText.setText("Linked as " + githubService.getGhUsername());
+        githubService.fetchRepositories(this);
+        applyFilter();
+        if (rootNode.getScene() != null) githubService.startSync(this);
+    }
+
+    /**
+     * Called on the JavaFX thread if the token could not be validated.
+     *
+     * @param unauthorized True if GitHub rejected the token, false if it could not be reached
+     */
+    public void onConnectFailed(boolean unauthorized) {
+        String username = githubService.getGhUsername();
+        if (unauthorized) linkText.setText("Token rejected");
+        else linkText.setText(username != null ? "Linked as " + username + " (offline)" : "Offline");
+    }
+
+    /**
+     * Lets the user pick a local git clone to read commits from.
+     */
+    @FXML
+    private void addLocalRepository() {
+        DirectoryChooser chooser = new DirectoryChooser();
+        chooser.setTitle("Add Local Repository");
+        File dir = chooser.showDialog(rootNode.getScene().getWindow());
+        if (dir == null) return;
+
+        if (!LocalGitSource.isRepository(dir)) {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Invalid Repository");
+            alert.setHeaderText("Not a git repository.");
+            alert.setContentText("Choose the top-level folder of a git clone, the one containing .git.");
+            alert.showAndWait();
+            return;
+        }
+        githubService.addLocalRepository(dir, this);
+    }
+
+    /**
+     * Reloads the repository list and commits after a repository was added.
+     */
+    public void onRepositoriesChanged() {
+        githubService.fetchRepositories(this);
+        applyFilter();
+    }
+
+    /**
+     * Shows when commits were last synced.
+     *
+     * @param lastSynced Time of the last sync, or null if never synced
+     */
+    public void setLastSynced(Instant lastSynced) {
+        if (lastSynced == null) syncText.setText("Never synced");
+        else syncText.setText("Last synced " + SYNC_FORMAT.format(lastSynced.atZone(ZoneId.systemDefault())));
+    }
+
     /**
      * Configures the GitHub link/unlink button action.
      */
@@ -115,12 +235,12 @@ public class GitHubCardController implements DashboardCard {
     /**
      * Sets repositories in the repository selection ComboBox.
      *
-     * @param repos Map of repository full names to GHRepository objects
+     * @param repos List of repository full names
      */
-    public void setRepositories(Map<String, GHRepository> repos) {
+    public void setRepositories(List<String> repos) {
         repoSelected.getItems().clear();
         repoSelected.getItems().add("All Repositories");
-        for (GHRepository r : repos.values()) repoSelected.getItems().add(r.getFullName());
+        repoSelected.getItems().addAll(repos);
         repoSelected.getSelectionModel().selectFirst();
     }
 
@@ -130,42 +250,235 @@ public class GitHubCardController implements DashboardCard {
      */
     @FXML
     private void applyFilter() {
-        String repo = repoSelected.getValue();
-        LocalDate start = startSelected.getValue();
-        LocalDate end = endSelected.getValue();
-        githubService.fetchCommits(repo, start, end, this);
+        filterRepo = repoSelected.getValue();
+        filterStart = startSelected.getValue();
+        filterEnd = endSelected.getValue();
+        githubService.fetchCommits(filterRepo, filterStart, filterEnd, this);
     }
 
 
     /**
-     * Updates the commits container with a list of commits.
+     * Sets the first page of commits matching the filter. They are shown unless a
+     * search is active, and older commits are paged in from the store on scroll.
      *
      * @param commits List of Commit objects to display.
      */
     public void setCommits(List<Commit> commits) {
-        commitsContainer.getChildren().clear();
-        for (Commit c : commits) {
-            Label l = new Label(c.toString() + " (" + c.getFormattedCommittedAt() + ")");
-            l.setStyle("-fx-font-size: 14px;");
-            commitsContainer.getChildren().add(l);
+        fetchedCommits = commits;
+        if (searchField.getText().isBlank()) showCommits(commits, true);
+    }
+
+    /**
+     * Shows the results of a commit message search, unless the search was cleared meanwhile.
+     *
+     * @param results Matching commits, most relevant first
+     */
+    public void setSearchResults(List<Commit> results) {
+        if (!searchField.getText().isBlank()) showCommits(results, false);
+    }
+
+    /**
+     * Searches commit messages as the user types, or goes back to the
+     * filtered commits once the search box is cleared.
+     *
+     * @param text Current search text
+     */
+    private void onSearchChanged(String text) {
+        if (text == null || text.isBlank()) {
+            githubService.cancelSearch();
+            showCommits(fetchedCommits, true);
+        } else {
+            githubService.searchCommits(text, this);
+        }
+    }
+
+    /**
+     * Replaces the commits in the list and scrolls back to the top.
+     *
+     * @param commits List of Commit objects to display.
+     * @param paged   True if older commits should be loaded on scroll
+     */
+    private void showCommits(List<Commit> commits, boolean paged) {
+        shownShas.clear();
+        for (Commit c : commits) shownShas.add(c.getSha());
+        commitItems.setAll(commits);
+        pagingEnabled = paged && !commits.isEmpty();
+        loadingPage = false;
+        commitsList.scrollTo(0);
+        // Cells are laid out on the next pulse, which is needed to tell which rows are visible
+        Platform.runLater(this::onListScrolled);
+    }
+
+    /**
+     * Appends a page of older commits, unless the list changed since it was requested.
+     *
+     * @param after Last commit when the page was requested
+     * @param page  Commits older than after, newest first
+     */
+    public void appendCommits(Commit after, List<Commit> page) {
+        if (!loadingPage || commitItems.isEmpty() || commitItems.get(commitItems.size() - 1) != after) return;
+        loadingPage = false;
+
+        List<Commit> added = new ArrayList<>(page.size());
+        for (Commit c : page) {
+            if (shownShas.add(c.getSha())) added.add(c);
         }
+        if (added.isEmpty()) pagingEnabled = false;
+        commitItems.addAll(added);
+        onListScrolled();
     }
 
     /**
-     * Populates the heatmap for a given year using cached daily commit counts.
+     * @param commit Commit to check
+     * @return True if the commit falls within the selected repository and date range
+     */
+    public boolean matchesFilter(Commit commit) {
+        if (filterRepo != null && !filterRepo.equals("All Repositories")
+                && !filterRepo.equals(commit.getRepoFullName())) return false;
+
+        LocalDate date = commit.getCommittedDate();
+        return (filterStart == null || !date.isBefore(filterStart))
+                && (filterEnd == null || !date.isAfter(filterEnd));
+    }
+
+    /**
+     * Patches the list and heatmap with commits synced in the background, without reloading.
+     * Commits older than the loaded part of a paged list are left for paging to pick up.
+     *
+     * @param update   New commits of one repository on one day
+     * @param matching The update's commits that match the current filter
+     */
+    public void onCommitsSynced(GitHubSyncScheduler.Update update, List<Commit> matching) {
+        syncText.setText(update + " in " + update.getRepoFullName());
+        if (matching.isEmpty()) return;
+
+        List<Commit> merged = new ArrayList<>(fetchedCommits);
+        merged.addAll(matching);
+        merged.sort(NEWEST_FIRST);
+        fetchedCommits = merged;
+
+        if (searchField.getText().isBlank()) {
+            for (Commit c : matching) {
+                if (shownShas.contains(c.getSha())) continue;
+                int index = Collections.binarySearch(commitItems, c, NEWEST_FIRST);
+                if (index < 0) index = -index - 1;
+                if (index == commitItems.size() && pagingEnabled) continue;
+
+                shownShas.add(c.getSha());
+                commitItems.add(index, c);
+            }
+        }
+        populateHeatMapForYear(displayedYear);
+    }
+
+    /**
+     * Updates the rows of commits whose size has been fetched, and the years of
+     * the heatmap they changed if it shows lines changed.
+     *
+     * @param commits    Commits that received their stats
+     * @param churnYears Years whose lines changed counts went up
+     */
+    public void onCommitsEnriched(List<Commit> commits, Set<Integer> churnYears) {
+        Map<String, Commit> bySha = new HashMap<>();
+        for (Commit c : commits) bySha.put(c.getSha(), c);
+
+        // Replacing a row with its commit redraws only that row's cell, if it is visible
+        for (int i = 0; i < commitItems.size() && !bySha.isEmpty(); i++) {
+            Commit enriched = bySha.remove(commitItems.get(i).getSha());
+            if (enriched != null) commitItems.set(i, enriched);
+        }
+
+        if (!churnMode.isSelected() || churnYears.isEmpty()) return;
+        DailyCommitCounts churn = githubService.getCachedDailyChurn();
+        if (renderedCounts != null && renderedCounts != churn) {
+            // Other years kept their counts, so only the changed years are drawn again
+            heatmap.invalidateYears(churnYears);
+            renderedCounts = churn;
+        }
+        if (churnYears.contains(displayedYear)) populateHeatMapForYear(displayedYear);
+    }
+
+    /**
+     * Hooks into the ListView's virtual flow once its skin exists, to follow scrolling.
+     */
+    private void attachScrollListener() {
+        commitsFlow = (VirtualFlow<?>) commitsList.lookup(".virtual-flow");
+        if (commitsFlow != null) commitsFlow.positionProperty().addListener((obs, oldVal, newVal) -> onListScrolled());
+    }
+
+    /**
+     * Loads the next page when nearing the end of the list,
+     * and asks for the size of the visible commits.
+     */
+    private void onListScrolled() {
+        if (commitItems.isEmpty() || commitsFlow == null) return;
+        IndexedCell<?> firstCell = commitsFlow.getFirstVisibleCell();
+        IndexedCell<?> lastCell = commitsFlow.getLastVisibleCell();
+        if (firstCell == null || lastCell == null) return;
+
+        int first = Math.max(0, firstCell.getIndex());
+        int last = Math.min(commitItems.size() - 1, lastCell.getIndex());
+
+        if (pagingEnabled && !loadingPage && last >= commitItems.size() - PAGE_PREFETCH_ROWS) {
+            loadingPage = true;
+            githubService.loadMoreCommits(filterRepo, filterStart, filterEnd,
+                    commitItems.get(commitItems.size() - 1), this);
+        }
+        requestEnrichment(first, last);
+    }
+
+    /**
+     * Requests stats for the visible commits first, then the rows just below and above them.
+     *
+     * @param first Index of the first visible row
+     * @param last  Index of the last visible row
+     */
+    private void requestEnrichment(int first, int last) {
+        List<Commit> byVisibility = new ArrayList<>();
+        for (int i = first; i <= last; i++) byVisibility.add(commitItems.get(i));
+
+        int span = last - first + 1;
+        for (int d = 1; d <= span; d++) {
+            if (last + d < commitItems.size()) byVisibility.add(commitItems.get(last + d));
+            if (first - d >= 0) byVisibility.add(commitItems.get(first - d));
+        }
+        githubService.enrichCommits(byVisibility, this);
+    }
+
+    /**
+     * Switches the heatmap between commits and lines changed per day.
+     */
+    @FXML
+    private void toggleHeatmapMode() {
+        populateHeatMapForYear(displayedYear);
+    }
+
+    /**
+     * Redraws the heatmap for the year the user is viewing, e.g. after the counts changed.
+     */
+    public void refreshHeatMap() {
+        populateHeatMapForYear(displayedYear);
+    }
+
+    /**
+     * Populates the heatmap for a given year using cached daily commit counts,
+     * or lines changed if that mode is selected.
+     * Cached year images are dropped whenever the service has newer counts.
      *
      * @param year Year to display on the heatmap.
      */
     public void populateHeatMapForYear(int year) {
-        Map<LocalDate, Integer> cachedCounts = githubService.getCachedDailyCounts();
+        displayedYear = year;
+        boolean churn = churnMode.isSelected();
+        DailyCommitCounts cachedCounts = churn ? githubService.getCachedDailyChurn() : githubService.getCachedDailyCounts();
         if (cachedCounts == null) return;
-
-        Map<LocalDate, Integer> yearCounts = new java.util.HashMap<>();
-        for (Map.Entry<LocalDate, Integer> e : cachedCounts.entrySet()) {
-            if (e.getKey().getYear() == year) yearCounts.put(e.getKey(), e.getValue());
+        if (cachedCounts != renderedCounts) {
+            heatmap.invalidate();
+            heatmap.setValueLabel(churn ? "Lines changed" : "Commits");
+            renderedCounts = cachedCounts;
         }
 
-        heatmap.populateHeatMapFullYear(yearCounts, year);
+        heatmap.populateHeatMapFullYear(cachedCounts.getYear(year), year);
     }
 
     /**
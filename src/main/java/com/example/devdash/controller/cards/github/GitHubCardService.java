@@ -1,16 +1,30 @@
 package com.example.devdash.controller.cards.github;
 
+import com.example.devdash.helper.data.BackgroundTasks;
+import com.example.devdash.helper.data.RequestManager;
 import com.example.devdash.helper.data.Session;
 import com.example.devdash.model.github.Commit;
+import com.example.devdash.model.github.CommitHistory;
+import com.example.devdash.model.github.CommitSearch;
+import com.example.devdash.model.github.CommitSource;
+import com.example.devdash.model.github.CommitSummary;
+import com.example.devdash.model.github.DailyCommitCounts;
+import com.example.devdash.model.github.GitHubAccountModel;
 import com.example.devdash.model.github.GitHubService;
+import com.example.devdash.model.github.GitHubSyncScheduler;
+import com.example.devdash.model.github.LocalGitSource;
 import com.example.devdash.model.auth.LoginModel;
 import javafx.application.Platform;
-import org.kohsuke.github.GHRepository;
+import java.io.File;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service layer for GitHubCardController.
@@ -18,18 +32,39 @@ import java.util.Map;
  * and caching daily commit counts.
  *
  * Author: Alexander Sukhin
- * Version: 25/08/2025
+ * Version: 19/10/2026
  */
 public class GitHubCardService {
 
+    private static final int RECENT_COMMITS_LIMIT = 50;
+    private static final int TOTAL_COMMITS_LIMIT = 5000;
+    private static final int SEARCH_RESULTS_LIMIT = 100;
+    private static final int COMMIT_PAGE_SIZE = 100;
+    private static final long MIN_RECONNECT_SECONDS = 15;
+    private static final long MAX_RECONNECT_SECONDS = 300;
+
     private GitHubService gitHubService;
     private final LoginModel loginModel;
+    private final GitHubAccountModel accountModel = new GitHubAccountModel();
+    private final LocalGitSource localSource;
     private final int userID;
+    private String accessToken;
     private String ghUsername;
-    private Map<LocalDate, Integer> cachedDailyCounts = new HashMap<>();
+    private DailyCommitCounts cachedDailyCounts = new DailyCommitCounts();
+    private DailyCommitCounts cachedDailyChurn = new DailyCommitCounts(true);
+    private CommitSummary currentSummary;
+    private final List<Commit> enrichedCommits = new ArrayList<>(); // Waiting for the next pulse
+    private final RequestManager requestManager = new RequestManager();
+    private final RequestManager searchManager = new RequestManager();
+    private final CommitSearch commitSearch = new CommitSearch();
+    private final CommitHistory commitHistory = new CommitHistory();
+    private ScheduledFuture<?> reconnect;
+    private GitHubSyncScheduler syncScheduler;
+    private long reconnectDelaySeconds = MIN_RECONNECT_SECONDS;
 
     /**
      * Constructor initializes service with login model, user ID, and access token.
+     * No network request is made; call connect() to validate the token.
      *
      * @param loginModel LoginModel for database access
      * @param userID     User ID
@@ -38,18 +73,32 @@ public class GitHubCardService {
     public GitHubCardService(LoginModel loginModel, int userID, String accessToken) {
         this.loginModel = loginModel;
         this.userID = userID;
+        this.localSource = new LocalGitSource(userID);
         initializeService(accessToken);
     }
 
     /**
      * Initializes the GitHubService with the provided access token.
+     * The username starts as the login last validated for this token, if any,
+     * and that login's locally synced data is opened for offline use.
      *
      * @param accessToken GitHub PAT
      */
     private void initializeService(String accessToken) {
+        stopSync();
+        syncScheduler = null;
+
+        if (accessToken == null || accessToken.isBlank()) {
+            gitHubService = null;
+            ghUsername = null;
+            return;
+        }
+
         try {
             gitHubService = new GitHubService(accessToken);
-            ghUsername = gitHubService.getGhUsername();
+            this.accessToken = accessToken;
+            ghUsername = accountModel.getCachedLogin(userID, accessToken);
+            gitHubService.openCached(ghUsername);
         } catch (IOException e) {
             e.printStackTrace();
             gitHubService = null;
@@ -60,7 +109,7 @@ public class GitHubCardService {
     /**
      * Returns the linked GitHub username.
      *
-     * @return GitHub username if linked, null otherwise
+     * @return GitHub username if known, null otherwise
      */
     public String getGhUsername() {
         return ghUsername;
@@ -68,13 +117,130 @@ public class GitHubCardService {
 
     /**
      * Checks whether the GitHub account is linked.
+     * The token may not have been validated yet.
      *
      * @return True if linked, false otherwise
      */
     public boolean isLinked() {
+        return gitHubService != null;
+    }
+
+    /**
+     * Checks whether the token has been validated in this session.
+     *
+     * @return True if connected, false otherwise
+     */
+    public boolean isConnected() {
+        return gitHubService != null && gitHubService.isConnected();
+    }
+
+    /**
+     * Checks whether repositories and commits can be shown, either live or from local data.
+     *
+     * @return True if a login is known for the linked token
+     */
+    public boolean hasData() {
         return gitHubService != null && ghUsername != null;
     }
 
+    /**
+     * Validates the token in the background. On success the login is cached and
+     * the controller is told to load its data; results are dropped if the account
+     * was unlinked or relinked in the meantime. If GitHub cannot be reached, the
+     * connection is retried with backoff until it succeeds.
+     *
+     * @param controller GitHubCardController to notify
+     */
+    public void connect(GitHubCardController controller) {
+        if (gitHubService == null) return;
+        GitHubService service = gitHubService;
+        String token = accessToken;
+
+        BackgroundTasks.execute(() -> {
+            try {
+                String login = service.connect();
+                accountModel.saveLogin(userID, token, login);
+                Platform.runLater(() -> {
+                    if (service != gitHubService) return;
+                    ghUsername = login;
+                    reconnectDelaySeconds = MIN_RECONNECT_SECONDS;
+                    controller.onConnected();
+                });
+            } catch (IOException e) {
+                boolean unauthorized = GitHubService.isUnauthorized(e);
+                if (unauthorized) accountModel.clear(userID);
+                Platform.runLater(() -> {
+                    if (service != gitHubService) return;
+                    controller.onConnectFailed(unauthorized);
+                    if (!unauthorized) scheduleReconnect(service, controller);
+                });
+            }
+        });
+    }
+
+    /**
+     * Schedules another connection attempt, doubling the delay each time.
+     *
+     * @param service    Service the attempt belongs to
+     * @param controller GitHubCardController to notify
+     */
+    private void scheduleReconnect(GitHubService service, GitHubCardController controller) {
+        long delay = reconnectDelaySeconds;
+        reconnectDelaySeconds = Math.min(MAX_RECONNECT_SECONDS, reconnectDelaySeconds * 2);
+
+        if (reconnect != null) reconnect.cancel(false);
+        reconnect = BackgroundTasks.scheduler().schedule(() -> Platform.runLater(() -> {
+            if (service == gitHubService) connect(controller);
+        }), delay, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts syncing new commits in the background once connected.
+     * New commits matching the controller's filter are added to the current
+     * commits and heatmap as they arrive.
+     *
+     * @param controller GitHubCardController to patch with new commits
+     */
+    public void startSync(GitHubCardController controller) {
+        if (!isConnected()) return;
+
+        if (syncScheduler == null) {
+            GitHubService service = gitHubService;
+            syncScheduler = new GitHubSyncScheduler(service, BackgroundTasks.scheduler(), BackgroundTasks.workers(),
+                    update -> Platform.runLater(() -> {
+                        if (service == gitHubService) applySyncUpdate(update, controller);
+                    }));
+        }
+        syncScheduler.start();
+    }
+
+    /**
+     * Stops the background sync, e.g. while the card is hidden.
+     */
+    public void stopSync() {
+        if (syncScheduler != null) syncScheduler.stop();
+    }
+
+    /**
+     * Adds newly synced commits that match the current filter to the
+     * current summary and tells the controller to patch its view.
+     *
+     * @param update     New commits of one repository on one day
+     * @param controller GitHubCardController to patch
+     */
+    private void applySyncUpdate(GitHubSyncScheduler.Update update, GitHubCardController controller) {
+        List<Commit> matching = new ArrayList<>();
+        for (Commit c : update.getCommits()) {
+            if (controller.matchesFilter(c)) matching.add(c);
+        }
+
+        if (currentSummary != null && !matching.isEmpty()) {
+            matching.forEach(currentSummary::add);
+            cachedDailyCounts = currentSummary.getDailyCounts();
+        }
+        controller.onCommitsSynced(update, matching);
+    }
+
     /**
      * Links the user's GitHub account by saving the access token in the session and database.
      * Initializes the GitHubService.
@@ -94,74 +260,244 @@ public class GitHubCardService {
     public void unlink() {
         Session.getInstance().getUser().setAccessToken(null);
         loginModel.setGitHubAccessToken(null, userID);
+        accountModel.clear(userID);
+        requestManager.cancelAll();
+        searchManager.cancelAll();
+        if (gitHubService != null) gitHubService.cancelEnrichment();
+        stopSync();
+        syncScheduler = null;
+        if (reconnect != null) reconnect.cancel(false);
+        reconnect = null;
+        reconnectDelaySeconds = MIN_RECONNECT_SECONDS;
         gitHubService = null;
+        accessToken = null;
         ghUsername = null;
-        cachedDailyCounts.clear();
+        cachedDailyCounts = new DailyCommitCounts();
+        cachedDailyChurn = new DailyCommitCounts(true);
+        currentSummary = null;
     }
 
     /**
-     * Fetches all repositories accessible to the user and passes them to the controller.
+     * Fetches all GitHub repositories accessible to the user, followed by the
+     * user's local repositories, and passes them to the controller.
      *
-     * @param controller GitHubCardController to receive repository map
+     * @param controller GitHubCardController to receive repository names
      */
     public void fetchRepositories(GitHubCardController controller) {
-        if (gitHubService == null) return;
+        GitHubService service = hasData() ? gitHubService : null;
 
-        new Thread(() -> {
+        BackgroundTasks.execute(() -> {
+            List<String> repos = new ArrayList<>();
             try {
-                Map<String, GHRepository> repos = gitHubService.getRepositories();
-                Platform.runLater(() -> {
-                    controller.setRepositories(repos);
-                });
+                if (service != null) repos.addAll(service.listRepositoryNames());
             } catch (IOException e) {
                 e.printStackTrace();
             }
-        }).start();
+            repos.addAll(localSource.listRepositoryNames());
+            Platform.runLater(() -> {
+                controller.setRepositories(repos);
+            });
+        });
+    }
+
+    /**
+     * Adds a local git clone as a commit source, then refreshes the card.
+     *
+     * @param dir        Root of the working tree
+     * @param controller GitHubCardController to refresh
+     */
+    public void addLocalRepository(File dir, GitHubCardController controller) {
+        BackgroundTasks.execute(() -> {
+            localSource.addRepository(dir.getAbsolutePath());
+            Platform.runLater(controller::onRepositoriesChanged);
+        });
     }
 
     /**
-     * Fetches commits and daily commit counts for the given repository and date range.
-     * Updates the controller with commits and heatmap.
+     * Fetches commits and daily commit counts for the given repository and date range
+     * in a single pass, from GitHub and local repositories. GitHub is served from local
+     * data until connected. Updates the controller with commits, heatmap and last sync
+     * time. The heatmap is refreshed as each repository completes, so it fills in repo
+     * by repo. Rapid calls are coalesced, and results of superseded calls are discarded.
      *
-     * @param repo Repo full name user/repo or "All Repositories"
+     * @param repo Repo full name user/repo, local repository path or "All Repositories"
      * @param start Start date. Can be null
      * @param end End date. Can be null
      * @param controller GitHubCardController to update commits and heatmap
      */
     public void fetchCommits(String repo, LocalDate start, LocalDate end, GitHubCardController controller) {
-        if (gitHubService == null) return;
+        GitHubService service = hasData() ? gitHubService : null;
 
-        new Thread(() -> {
-            try {
-                List<Commit> commits;
-                Map<LocalDate, Integer> dailyCounts;
-
-                if (repo == null || repo.equals("All Repositories")) {
-                    commits = gitHubService.fetchCommits(null, start, end, 50);
-                    dailyCounts = gitHubService.fetchDailyCommitCounts(null, start, end, 5000);
-                } else {
-                    commits = gitHubService.fetchCommits(repo, start, end, 50);
-                    dailyCounts = gitHubService.fetchDailyCommitCounts(repo, start, end, 5000);
+        requestManager.submit(generation -> {
+            String repoFullName = (repo == null || repo.equals("All Repositories")) ? null : repo;
+            List<CommitSource> sources = new ArrayList<>();
+            if (repoFullName == null) {
+                if (service != null) sources.add(service);
+                sources.add(localSource);
+            } else if (localSource.owns(repoFullName)) {
+                sources.add(localSource);
+            } else if (service != null) {
+                sources.add(service);
+            }
+            if (sources.isEmpty()) return;
+
+            CommitSummary summary = new CommitSummary(RECENT_COMMITS_LIMIT, TOTAL_COMMITS_LIMIT);
+            Instant lastSynced = null;
+            for (CommitSource source : sources) {
+                source.collectCommits(repoFullName, start, end, summary, partial -> {
+                    DailyCommitCounts partialCounts = partial.getDailyCounts();
+                    requestManager.runIfCurrent(generation, () -> {
+                        cachedDailyCounts = partialCounts;
+                        controller.refreshHeatMap();
+                    });
+                });
+                Instant sourceSynced = source.getLastSyncedAt();
+                if (sourceSynced != null && (lastSynced == null || sourceSynced.isAfter(lastSynced))) {
+                    lastSynced = sourceSynced;
                 }
+            }
 
+            List<Commit> commits = summary.getRecentCommits();
+            DailyCommitCounts dailyCounts = summary.getDailyCounts();
+            Instant synced = lastSynced;
+
+            requestManager.runIfCurrent(generation, () -> {
+                currentSummary = summary;
                 cachedDailyCounts = dailyCounts;
+                cachedDailyChurn = summary.getDailyChurn();
+                controller.setLastSynced(synced);
+                controller.setCommits(commits);
+                controller.refreshHeatMap();
+            });
+        });
+    }
 
-                Platform.runLater(() -> {
-                    controller.setCommits(commits);
-                    controller.populateHeatMapForYear(LocalDate.now().getYear());
-                });
-            } catch (IOException e) {
-                e.printStackTrace();
+    /**
+     * Searches the messages of all synced commits, from GitHub and local repositories.
+     * Typing is debounced and the query runs in the background; results of
+     * superseded searches are discarded.
+     *
+     * @param text       Text to search for
+     * @param controller GitHubCardController to show the results
+     */
+    public void searchCommits(String text, GitHubCardController controller) {
+        List<String> logins = new ArrayList<>();
+        if (ghUsername != null) logins.add(ghUsername);
+        logins.add(LocalGitSource.STORE_LOGIN);
+
+        searchManager.submit(generation -> {
+            List<Commit> results = commitSearch.search(text, logins, SEARCH_RESULTS_LIMIT);
+            searchManager.runIfCurrent(generation, () -> controller.setSearchResults(results));
+        });
+    }
+
+    /**
+     * Cancels any pending search, e.g. when the search box is cleared.
+     */
+    public void cancelSearch() {
+        searchManager.cancelAll();
+    }
+
+    /**
+     * Loads the next page of commits older than the last one listed, from the
+     * local commit store only, so scrolling never waits on GitHub.
+     *
+     * @param repo       Repo full name user/repo, local repository path or "All Repositories"
+     * @param start      Start date. Can be null
+     * @param end        End date. Can be null
+     * @param after      Last commit currently listed
+     * @param controller GitHubCardController to append the page to
+     */
+    public void loadMoreCommits(String repo, LocalDate start, LocalDate end, Commit after,
+                                GitHubCardController controller) {
+        String repoFullName = (repo == null || repo.equals("All Repositories")) ? null : repo;
+        List<String> logins = new ArrayList<>();
+        if (repoFullName == null) {
+            if (ghUsername != null) logins.add(ghUsername);
+            logins.add(LocalGitSource.STORE_LOGIN);
+        } else if (localSource.owns(repoFullName)) {
+            logins.add(LocalGitSource.STORE_LOGIN);
+        } else if (ghUsername != null) {
+            logins.add(ghUsername);
+        }
+
+        LocalDate from = start != null ? start : CommitSource.EARLIEST_COMMIT_DATE;
+        LocalDate to = end != null ? end : LocalDate.now();
+
+        BackgroundTasks.execute(() -> {
+            List<Commit> page = commitHistory.loadPage(logins, repoFullName, from, to, after, COMMIT_PAGE_SIZE);
+            Platform.runLater(() -> controller.appendCommits(after, page));
+        });
+    }
+
+    /**
+     * Fetches lines and files changed for the listed commits in the background,
+     * most visible first. Results are handed to the card in batches, at most one
+     * per pulse of the JavaFX thread, which update the commits' rows and the lines
+     * changed heatmap.
+     *
+     * @param commits    Commits ordered by visibility, most visible first
+     * @param controller GitHubCardController to update
+     */
+    public void enrichCommits(List<Commit> commits, GitHubCardController controller) {
+        if (gitHubService == null) return;
+        GitHubService service = gitHubService;
+
+        // Only commits from GitHub can be enriched through the API
+        List<Commit> remote = new ArrayList<>(commits.size());
+        for (Commit c : commits) {
+            if (!localSource.owns(c.getRepoFullName())) remote.add(c);
+        }
+
+        service.enrichCommits(remote, commit -> queueEnriched(service, commit, controller));
+    }
+
+    /**
+     * Queues an enriched commit, and schedules a pulse to apply the queue
+     * unless one is already pending.
+     *
+     * @param service    Service the commit was enriched by
+     * @param commit     Commit that received its stats
+     * @param controller GitHubCardController to update
+     */
+    private void queueEnriched(GitHubService service, Commit commit, GitHubCardController controller) {
+        synchronized (enrichedCommits) {
+            enrichedCommits.add(commit);
+            if (enrichedCommits.size() > 1) return;
+        }
+
+        Platform.runLater(() -> {
+            List<Commit> batch;
+            synchronized (enrichedCommits) {
+                batch = new ArrayList<>(enrichedCommits);
+                enrichedCommits.clear();
             }
-        }).start();
+            if (service != gitHubService) return;
+
+            Set<Integer> churnYears = new HashSet<>();
+            for (Commit c : batch) {
+                if (currentSummary != null && currentSummary.addStats(c)) churnYears.add(c.getCommittedDate().getYear());
+            }
+            if (!churnYears.isEmpty()) cachedDailyChurn = currentSummary.getDailyChurn();
+            controller.onCommitsEnriched(batch, churnYears);
+        });
     }
 
     /**
      * Returns cached daily commit counts.
      *
-     * @return Map of LocalDate to number of commits
+     * @return DailyCommitCounts indexed by year
      */
-    public Map<LocalDate, Integer> getCachedDailyCounts() {
+    public DailyCommitCounts getCachedDailyCounts() {
         return cachedDailyCounts;
     }
+
+    /**
+     * Returns cached daily lines changed, covering the commits enriched so far.
+     *
+     * @return DailyCommitCounts of lines changed, indexed by year
+     */
+    public DailyCommitCounts getCachedDailyChurn() {
+        return cachedDailyChurn;
+    }
 }
\ No newline at end of file
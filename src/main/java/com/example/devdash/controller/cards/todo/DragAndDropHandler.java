@@ -1,45 +1,48 @@
 package com.example.devdash.controller.cards.todo;
 
-import com.example.devdash.model.todo.TaskModel;
+import com.example.devdash.model.todo.Task;
+import com.example.devdash.model.todo.TaskRepository;
 import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.input.DragEvent;
 import javafx.scene.input.Dragboard;
 import javafx.scene.input.TransferMode;
-import javafx.scene.layout.VBox;
 
 import java.util.function.Supplier;
 
 /**
- * Handles drag-and-drop operations for task management columns
+ * Handles drag-and-drop operations for task management columns.
+ * Columns are virtualized lists, so drags start from their task cells.
+ * A task dropped on a card is placed before it, or after it if dropped on
+ * its lower half, so cards can be reordered within and across columns.
  *
  * Author: Alexander Sukhin
- * Version: 30/08/2025
+ * Version: 19/10/2026
  */
 public class DragAndDropHandler {
 
-    private final TaskModel taskModel;
-    private final Runnable refreshAction;
+    private final TaskRepository taskRepository;
     private final Supplier<Integer> sprintIdSupplier;
 
     /**
      * Creates a new DragAndDropHandler
      *
-     * @param taskModel        The TaskModel used to update task status in the database.
-     * @param refreshAction    A callback that refreshes the UI after a task is dropped.
+     * @param taskRepository   The TaskRepository used to move tasks; the columns follow it.
      * @param sprintIdSupplier Supplies the current sprint ID, used for assigning/removing tasks from sprints.
      */
-    public DragAndDropHandler(TaskModel taskModel, Runnable refreshAction, Supplier<Integer> sprintIdSupplier) {
-        this.taskModel = taskModel;
-        this.refreshAction = refreshAction;
+    public DragAndDropHandler(TaskRepository taskRepository, Supplier<Integer> sprintIdSupplier) {
+        this.taskRepository = taskRepository;
         this.sprintIdSupplier = sprintIdSupplier;
     }
 
     /**
      * Sets up drag-and-drop behavior for a given task column.
      *
-     * @param column The VBox column representing a task status
+     * @param column The list column representing a task status
      * @param status The new status to assign when a task is dropped in this column
      */
-    public void setupDragAndDrop(VBox column, String status) {
+    public void setupDragAndDrop(ListView<Task> column, String status) {
         column.setOnDragOver(event -> {
             if(event.getGestureSource() != column && event.getDragboard().hasString())
                 event.acceptTransferModes(TransferMode.MOVE);
@@ -49,16 +52,14 @@ public class DragAndDropHandler {
         column.setOnDragDropped(event -> {
             Dragboard db = event.getDragboard();
             if (db.hasString()) {
-                int taskId = Integer.parseInt(db.getString());
-                taskModel.updateTaskStatus(taskId, status);
-                taskModel.updateTaskTimestamp(taskId);
-
-                int sprintId = sprintIdSupplier.get();
-                if (status.equals("BACKLOG")) taskModel.removeTaskFromSprint(taskId);
-                else if (sprintId != 0) taskModel.assignTaskToSprint(taskId, sprintId);
-
-                refreshAction.run();
-                event.setDropCompleted(true);
+                Task task = taskRepository.getTask(Integer.parseInt(db.getString()));
+                if (task != null) {
+                    int sprintId = sprintIdSupplier.get();
+                    if (status.equals("BACKLOG")) sprintId = 0;
+                    else if (sprintId == 0) sprintId = task.getSprintId();
+                    taskRepository.moveTask(task.getId(), status, sprintId, taskAfterDrop(column, event));
+                }
+                event.setDropCompleted(task != null);
             } else {
                 event.setDropCompleted(false);
             }
@@ -67,8 +68,8 @@ public class DragAndDropHandler {
         });
 
         column.setOnDragEntered(event -> {
-            if (event.getGestureSource() instanceof Node sourceNode
-                    && sourceNode.getParent() != column
+            if (event.getGestureSource() instanceof ListCell<?> sourceCell
+                    && sourceCell.getListView() != column
                     && event.getDragboard().hasString()) {
                 column.setStyle("-fx-border-color: dodgerblue; -fx-border-width: 2; -fx-border-radius: 6;");
             }
@@ -76,4 +77,21 @@ public class DragAndDropHandler {
 
         column.setOnDragExited(event -> column.setStyle(""));
     }
+
+    /**
+     * Finds the task a dropped task should be placed before, from the card under the pointer.
+     *
+     * @param column The list column the task was dropped on
+     * @param event  The drop event
+     * @return The task to place it before, or null for the end of the column
+     */
+    private static Task taskAfterDrop(ListView<Task> column, DragEvent event) {
+        Node node = event.getPickResult().getIntersectedNode();
+        while (node != null && node != column && !(node instanceof TaskCell)) node = node.getParent();
+        if (!(node instanceof TaskCell cell) || cell.isEmpty()) return null;
+
+        int index = cell.getIndex();
+        if (cell.sceneToLocal(event.getSceneX(), event.getSceneY()).getY() > cell.getHeight() / 2) index++;
+        return index < column.getItems().size() ? column.getItems().get(index) : null;
+    }
 }
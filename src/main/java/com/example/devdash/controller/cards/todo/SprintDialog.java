@@ -1,7 +1,7 @@
 package com.example.devdash.controller.cards.todo;
 
 import com.example.devdash.model.todo.Sprint;
-import com.example.devdash.model.todo.SprintModel;
+import com.example.devdash.model.todo.TaskRepository;
 import javafx.event.ActionEvent;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
@@ -10,21 +10,20 @@ import java.time.LocalDate;
 
 /**
  * Utility class for displaying a dialog to create new Sprint objects.
- * If the input is valid, the sprint is added to the database via SprintModel.
+ * If the input is valid, the sprint is added through the TaskRepository.
  *
  * Author: Alexander Sukhin
- * Version: 30/08/2025
+ * Version: 19/10/2026
  */
 public class SprintDialog {
 
     /**
      * Displays a dialog for creating and adding a new {@link Sprint}.
      *
-     * @param userId    The user's ID
-     * @param sprintModel The SprintModel instance used to update the database
-     * @param onSuccess A callback that will be executed if the sprint is successfully created.
+     * @param taskRepository The user's TaskRepository the sprint is added to
+     * @param onSuccess      A callback that will be executed if the sprint is successfully created.
      */
-    public static void showAddSprintDialog(int userId, SprintModel sprintModel, Runnable onSuccess) {
+    public static void showAddSprintDialog(TaskRepository taskRepository, Runnable onSuccess) {
         Dialog<Void> dialog = new Dialog<>();
         dialog.setTitle("Add New Sprint");
 
@@ -51,7 +50,7 @@ public class SprintDialog {
 
             if (!name.isBlank() && start != null && end != null
                     && !end.isBefore(start) && !start.isBefore(today) && !end.isBefore(today)) {
-                sprintModel.addSprint(userId, name, start, end);
+                taskRepository.addSprint(name, start, end);
                 onSuccess.run();
             } else {
                 event.consume(); // ❌ prevent dialog from closing
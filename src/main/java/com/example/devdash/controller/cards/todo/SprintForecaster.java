@@ -0,0 +1,127 @@
+package com.example.devdash.controller.cards.todo;
+
+import com.example.devdash.helper.data.RequestManager;
+import com.example.devdash.model.todo.Sprint;
+import com.example.devdash.model.todo.SprintForecast;
+import com.example.devdash.model.todo.Task;
+import com.example.devdash.model.todo.TaskRepository;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Label;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Shows the forecast chance of finishing the selected sprint's open tasks by its end date.
+ * The user's recent daily throughput is loaded once per sprint shown, and the
+ * simulation reruns in the background whenever tasks move in or out of the
+ * sprint's open columns, but only if the number of open tasks or days left changed.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class SprintForecaster {
+
+    private static final int HISTORY_DAYS = 30;
+    private static final DateTimeFormatter END_FORMAT = DateTimeFormatter.ofPattern("d MMM");
+
+    private final TaskRepository taskRepository;
+    private final Label forecastLabel;
+    private final RequestManager requests = new RequestManager();
+    private final ListChangeListener<Task> columnListener = change -> update();
+
+    private Sprint sprint;
+    private List<ObservableList<Task>> openColumns = List.of();
+    private volatile int[] throughput; // Loaded in the background, null until then
+    private long shownKey = -1;
+
+    /**
+     * Constructor for the forecaster.
+     *
+     * @param taskRepository TaskRepository holding the user's tasks
+     * @param forecastLabel  Label showing the forecast
+     */
+    public SprintForecaster(TaskRepository taskRepository, Label forecastLabel) {
+        this.taskRepository = taskRepository;
+        this.forecastLabel = forecastLabel;
+    }
+
+    /**
+     * Shows the forecast of a sprint, or hides it if none is selected.
+     *
+     * @param sprint Selected sprint, may be null or the "No Sprint" option
+     */
+    public void show(Sprint sprint) {
+        openColumns.forEach(column -> column.removeListener(columnListener));
+        requests.cancelAll();
+        throughput = null; // Reloaded, so recent completions count
+        shownKey = -1;
+
+        boolean hasSprint = sprint != null && sprint.getId() != 0 && sprint.getEndDate() != null;
+        this.sprint = hasSprint ? sprint : null;
+        forecastLabel.setVisible(hasSprint);
+        forecastLabel.setManaged(hasSprint);
+        if (!hasSprint) {
+            openColumns = List.of();
+            return;
+        }
+
+        openColumns = List.of(taskRepository.getColumn(sprint.getId(), "TODO"),
+                taskRepository.getColumn(sprint.getId(), "IN_PROGRESS"));
+        openColumns.forEach(column -> column.addListener(columnListener));
+        forecastLabel.setText("Forecast: calculating...");
+        update();
+    }
+
+    /**
+     * Stops listening and cancels any forecast in progress.
+     */
+    public void stop() {
+        show(null);
+    }
+
+    /**
+     * Reruns the forecast if the open tasks or days left changed since it was last shown.
+     */
+    private void update() {
+        if (sprint == null) return;
+        int openTasks = openColumns.stream().mapToInt(column -> column.size()).sum();
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.isBefore(sprint.getStartDate()) ? sprint.getStartDate() : today;
+        int daysLeft = (int) Math.max(0, ChronoUnit.DAYS.between(from, sprint.getEndDate()) + 1);
+
+        long key = ((long) openTasks << 32) | daysLeft;
+        if (key == shownKey) return;
+        shownKey = key;
+
+        Sprint forecastSprint = sprint;
+        requests.submit(generation -> {
+            int[] history = throughput;
+            if (history == null) {
+                history = taskRepository.getDailyThroughput(HISTORY_DAYS);
+                throughput = history;
+            }
+            String text = describe(forecastSprint, history, openTasks, daysLeft);
+            requests.runIfCurrent(generation, () -> forecastLabel.setText(text));
+        });
+    }
+
+    /**
+     * Runs the simulation and describes its result.
+     *
+     * @return Forecast text for the label
+     */
+    private static String describe(Sprint sprint, int[] history, int openTasks, int daysLeft) {
+        String tasks = openTasks + " open task" + (openTasks == 1 ? "" : "s");
+        if (openTasks == 0) return "Forecast: all tasks done";
+        if (daysLeft == 0) return "Forecast: sprint ended with " + tasks;
+        if (history.length == 0) return "Forecast: complete some tasks to build a history";
+
+        double probability = SprintForecast.probabilityToFinish(history, openTasks, daysLeft, SprintForecast.DEFAULT_TRIALS);
+        return String.format("Forecast: %.0f%% chance to finish %s by %s",
+                probability * 100, tasks, sprint.getEndDate().format(END_FORMAT));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.devdash.controller.cards.todo;
+
+import com.example.devdash.helper.data.BackgroundTasks;
+import com.example.devdash.model.todo.Sprint;
+import com.example.devdash.model.todo.TaskEventModel;
+import com.example.devdash.model.todo.TaskRepository;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Utility class for displaying a dialog with the burndown of a sprint and
+ * the velocity of the user's recent sprints. The numbers are read from the
+ * daily sprint counters in the background.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class SprintStatsDialog {
+
+    private static final int VELOCITY_SPRINTS = 10;
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("MM-dd");
+
+    /**
+     * Displays the sprint statistics dialog.
+     *
+     * @param taskRepository The user's TaskRepository
+     * @param sprint         Sprint to show the burndown of, or null for velocity only
+     */
+    public static void showSprintStatsDialog(TaskRepository taskRepository, Sprint sprint) {
+        Dialog<Void> dialog = new Dialog<>();
+        dialog.setTitle("Sprint Stats");
+        dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
+
+        boolean hasSprint = sprint != null && sprint.getId() != 0 && sprint.getStartDate() != null;
+
+        LineChart<String, Number> burndownChart = new LineChart<>(new CategoryAxis(), new NumberAxis());
+        burndownChart.setTitle(hasSprint ? "Burndown: " + sprint.getName() : "Burndown");
+        burndownChart.setAnimated(false);
+        burndownChart.setCreateSymbols(false);
+
+        BarChart<String, Number> velocityChart = new BarChart<>(new CategoryAxis(), new NumberAxis());
+        velocityChart.setTitle("Velocity (tasks completed)");
+        velocityChart.setAnimated(false);
+        velocityChart.setLegendVisible(false);
+
+        VBox content = new VBox(10);
+        content.setPadding(new Insets(10));
+        if (hasSprint) content.getChildren().add(burndownChart);
+        else content.getChildren().add(new Label("Select a sprint to see its burndown."));
+        content.getChildren().add(velocityChart);
+        dialog.getDialogPane().setContent(content);
+
+        BackgroundTasks.execute(() -> {
+            LinkedHashMap<LocalDate, Integer> burndown = hasSprint ? taskRepository.getBurndown(sprint) : new LinkedHashMap<>();
+            List<TaskEventModel.SprintVelocity> velocity = taskRepository.getVelocity(VELOCITY_SPRINTS);
+            Platform.runLater(() -> {
+                if (hasSprint) burndownChart.getData().setAll(buildBurndownSeries(sprint, burndown));
+                velocityChart.getData().setAll(List.of(buildVelocitySeries(velocity)));
+            });
+        });
+
+        dialog.showAndWait();
+    }
+
+    /**
+     * Builds the remaining-work series and an ideal line from the first day's work down to zero.
+     *
+     * @param sprint    Sprint shown
+     * @param burndown  Tasks remaining per day, up to today
+     * @return Actual and ideal series
+     */
+    private static List<XYChart.Series<String, Number>> buildBurndownSeries(Sprint sprint,
+                                                                          LinkedHashMap<LocalDate, Integer> burndown) {
+        XYChart.Series<String, Number> actual = new XYChart.Series<>();
+        actual.setName("Remaining");
+        burndown.forEach((day, remaining) -> actual.getData().add(new XYChart.Data<>(day.format(DAY_FORMAT), remaining)));
+
+        XYChart.Series<String, Number> ideal = new XYChart.Series<>();
+        ideal.setName("Ideal");
+        int start = burndown.isEmpty() ? 0 : burndown.values().iterator().next();
+        long days = Math.max(1, ChronoUnit.DAYS.between(sprint.getStartDate(), sprint.getEndDate()));
+        for (long i = 0; i <= days; i++) {
+            LocalDate day = sprint.getStartDate().plusDays(i);
+            ideal.getData().add(new XYChart.Data<>(day.format(DAY_FORMAT), start * (days - i) / (double) days));
+        }
+        return List.of(ideal, actual);
+    }
+
+    /**
+     * @param velocity Tasks completed per sprint, oldest first
+     * @return Bar series of completed tasks per sprint
+     */
+    private static XYChart.Series<String, Number> buildVelocitySeries(List<TaskEventModel.SprintVelocity> velocity) {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        for (TaskEventModel.SprintVelocity sprint : velocity) {
+            // Names may repeat, so the start date keeps categories apart
+            String label = sprint.getName() + "\n" + sprint.getStartDate().format(DAY_FORMAT);
+            series.getData().add(new XYChart.Data<>(label, sprint.getCompleted()));
+        }
+        return series;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.devdash.controller.cards.todo;
+
+import com.example.devdash.model.todo.Task;
+import com.example.devdash.helper.ui.RelativeTimeTicker;
+import com.example.devdash.model.todo.TaskRepository;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.geometry.Side;
+import javafx.scene.control.*;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.Dragboard;
+import javafx.scene.input.TransferMode;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import org.kordamp.ikonli.javafx.FontIcon;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * List cell showing a task card in a kanban column.
+ * Each cell builds its card once and is reused by the ListView for whichever
+ * task scrolls into it, so a column only has nodes for its visible tasks.
+ * The card's edit/delete menu is created the first time it is opened.
+ * Cells are also drag sources for moving tasks between columns. The "Updated ..."
+ * label is kept current by the shared ticker, and only set when its text changes.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskCell extends ListCell<Task> implements RelativeTimeTicker.Listener {
+
+    private static final String[] PRIORITY_NAMES = {"Low", "Medium", "High"};
+    private static final String[] PRIORITY_COLOURS = {"#27AE60", "#F1C40F", "#E74C3C"};
+
+    private final TaskRepository taskRepository;
+    private final Consumer<Task> editTaskCallback;
+
+    private final VBox container = new VBox(5);
+    private final Label priorityLabel = new Label();
+    private final Button menuButton = new Button();
+    private final Text descText = new Text();
+    private final Label dueLabel = new Label();
+    private final FontIcon overdueIcon = new FontIcon("fas-exclamation-triangle");
+    private final HBox dueRow;
+    private final Label updatedLabel = new Label();
+    private ContextMenu contextMenu;
+
+    /**
+     * Constructs the cell and its card layout.
+     *
+     * @param taskRepository   TaskRepository holding the user's tasks
+     * @param editTaskCallback Callback function invoked when user edits a task
+     */
+    public TaskCell(TaskRepository taskRepository, Consumer<Task> editTaskCallback) {
+        this.taskRepository = taskRepository;
+        this.editTaskCallback = editTaskCallback;
+
+        priorityLabel.setAlignment(Pos.CENTER);
+        priorityLabel.getStyleClass().add("task-priority");
+
+        menuButton.getStyleClass().add("color-transparent");
+        FontIcon menuIcon = new FontIcon("fas-ellipsis-v");
+        menuIcon.getStyleClass().add("theme-text");
+        menuButton.setGraphic(menuIcon);
+        menuButton.setOnAction(e -> showMenu());
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox topRow = new HBox(10, priorityLabel, spacer, menuButton);
+        topRow.setAlignment(Pos.CENTER_LEFT);
+
+        descText.setFont(Font.font("System", 16));
+        descText.getStyleClass().add("theme-text");
+        descText.wrappingWidthProperty().bind(container.widthProperty().subtract(65));
+
+        Label duePrefix = new Label("Due: ");
+        duePrefix.getStyleClass().add("task-due");
+        overdueIcon.getStyleClass().add("theme-text");
+        Tooltip.install(overdueIcon, new Tooltip("Overdue"));
+        Label gap = new Label(" ");
+        gap.visibleProperty().bind(overdueIcon.visibleProperty());
+        dueRow = new HBox(duePrefix, dueLabel, gap, overdueIcon);
+        dueRow.setAlignment(Pos.CENTER_LEFT);
+
+        updatedLabel.setStyle("-fx-font-size: 13px;");
+        updatedLabel.getStyleClass().add("theme-text");
+
+        container.getChildren().addAll(topRow, descText, dueRow, updatedLabel);
+        container.setAlignment(Pos.CENTER_LEFT);
+        container.setPadding(new Insets(0, 5, 0, 5));
+        container.getStyleClass().add("kanban-task");
+
+        // Lets the cell shrink to the column width instead of scrolling sideways
+        setPrefWidth(0);
+        setupDrag();
+        RelativeTimeTicker.register(this);
+    }
+
+    /**
+     * Shows the task in this cell, or clears the cell.
+     *
+     * @param task  Task in this row, or null
+     * @param empty True if the row has no task
+     */
+    @Override
+    protected void updateItem(Task task, boolean empty) {
+        super.updateItem(task, empty);
+        if (empty || task == null) {
+            setGraphic(null);
+            return;
+        }
+
+        int priority = Math.max(0, Math.min(task.getPriority(), 2));
+        priorityLabel.setText(PRIORITY_NAMES[priority]);
+        priorityLabel.setStyle("-fx-background-color: " + PRIORITY_COLOURS[priority]);
+
+        descText.setText(task.getDescription());
+
+        boolean hasDueDate = !task.getDueDate().isEmpty();
+        show(dueRow, hasDueDate);
+        if (hasDueDate) {
+            dueLabel.setText(task.getDueDate());
+            long dueEpochDay = task.getDueEpochDay();
+            overdueIcon.setVisible(dueEpochDay != Task.NO_DUE_DATE && dueEpochDay < LocalDate.now().toEpochDay());
+        }
+
+        show(updatedLabel, task.getUpdatedAtEpochSecond() != Task.NO_TIMESTAMP);
+        tick(Instant.now().getEpochSecond());
+
+        container.setUserData(task);
+        setGraphic(container);
+    }
+
+    /**
+     * Refreshes the "Updated ..." label, touching it only if its text changes.
+     *
+     * @param nowEpochSecond Current time as epoch seconds
+     */
+    @Override
+    public void tick(long nowEpochSecond) {
+        Task task = getItem();
+        if (task == null || isEmpty()) return;
+        String updated = task.getFormattedUpdatedAt(nowEpochSecond);
+        if (!updated.equals(updatedLabel.getText())) updatedLabel.setText(updated);
+    }
+
+    /**
+     * Shows the edit/delete menu for the current task, creating it on first use.
+     */
+    private void showMenu() {
+        if (contextMenu == null) {
+            MenuItem editItem = new MenuItem("Edit");
+            editItem.setOnAction(e -> {
+                if (getItem() != null) editTaskCallback.accept(getItem());
+            });
+
+            Button deleteBtn = new Button();
+            FontIcon icon = new FontIcon("fas-times");
+            icon.getStyleClass().add("theme-text");
+            deleteBtn.setGraphic(icon);
+            deleteBtn.getStyleClass().add("color-transparent");
+            deleteBtn.setOnAction(e -> {
+                contextMenu.hide();
+                if (getItem() != null) taskRepository.deleteTask(getItem().getId());
+            });
+
+            CustomMenuItem deleteItem = new CustomMenuItem(deleteBtn);
+            deleteItem.setHideOnClick(false);
+            contextMenu = new ContextMenu(editItem, deleteItem);
+        }
+        contextMenu.show(menuButton, Side.BOTTOM, 0, 0);
+    }
+
+    /**
+     * Configures drag-and-drop support for the cell.
+     * - On drag start: places the current task's ID into the drag board
+     * - On drag done: removes "dragging" style
+     */
+    private void setupDrag() {
+        setOnDragDetected(event -> {
+            if (getItem() == null) return;
+            Dragboard db = startDragAndDrop(TransferMode.MOVE);
+            ClipboardContent content = new ClipboardContent();
+            content.putString(String.valueOf(getItem().getId()));
+            db.setContent(content);
+            container.getStyleClass().add("dragging");
+            event.consume();
+        });
+
+        setOnDragDone(event -> {
+            container.getStyleClass().remove("dragging");
+            event.consume();
+        });
+    }
+
+    /**
+     * Shows or hides a row without leaving a gap.
+     *
+     * @param node    Row to show or hide
+     * @param visible True to show it
+     */
+    private static void show(Region node, boolean visible) {
+        node.setVisible(visible);
+        node.setManaged(visible);
+    }
+}
@@ -1,9 +1,8 @@
 package com.example.devdash.controller.cards.todo;
 
-import com.example.devdash.helper.data.Session;
 import com.example.devdash.model.todo.Sprint;
 import com.example.devdash.model.todo.Task;
-import com.example.devdash.model.todo.TaskModel;
+import com.example.devdash.model.todo.TaskRepository;
 import com.example.devdash.helper.ui.Priority;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
@@ -15,20 +14,19 @@ import java.time.LocalDate;
  * Utility class for displaying a dialog to add or edit a Task
  *
  * Author: Alexander Sukhin
- * Version: 30/08/2025
+ * Version: 19/10/2026
  */
 public class TaskDialog {
 
-    private static final TaskModel taskModel = new TaskModel();
-
     /**
      * Displays a dialog to add or edit a task.
+     * Changes are made in the repository, so the board updates itself.
      *
+     * @param taskRepository  TaskRepository holding the user's tasks
      * @param task            Existing task to edit, or null for a new task
      * @param selectedSprint  Sprint to assign the task to, may be null
-     * @param refreshAction   Action to run after saving
      */
-    public static void showTaskDialog(Task task, Sprint selectedSprint, Runnable refreshAction) {
+    public static void showTaskDialog(TaskRepository taskRepository, Task task, Sprint selectedSprint) {
         boolean isEdit = task != null;
         Dialog<Void> dialog = new Dialog<>();
         dialog.setTitle(isEdit ? "Edit Task" : "Add Task");
@@ -76,18 +74,11 @@ public class TaskDialog {
 
                 if (!desc.isBlank()) {
                     if (isEdit) {
-                        taskModel.updateTask(task.getId(), desc, status, priority, dueDate);
-                        taskModel.updateTaskTimestamp(task.getId());
-                        if (selectedSprint != null && selectedSprint.getId() != 0 && !status.equals("BACKLOG")) {
-                            taskModel.assignTaskToSprint(task.getId(), selectedSprint.getId());
-                        } else {
-                            taskModel.removeTaskFromSprint(task.getId());
-                        }
+                        int sprintId = (selectedSprint != null && !status.equals("BACKLOG")) ? selectedSprint.getId() : 0;
+                        taskRepository.updateTask(task.getId(), desc, status, priority, dueDate, sprintId);
                     } else {
-                        int userId = Session.getInstance().getUser().getID();
-                        taskModel.addTask(userId, desc, status, priority, dueDate);
+                        taskRepository.addTask(desc, status, priority, dueDate);
                     }
-                    refreshAction.run();
                 }
             }
             return null;
@@ -0,0 +1,158 @@
+package com.example.devdash.controller.cards.todo;
+
+import com.example.devdash.helper.data.RequestManager;
+import com.example.devdash.model.todo.Task;
+import com.example.devdash.model.todo.TaskRepository;
+import com.example.devdash.model.todo.TaskSearch;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Filters the kanban columns by text, priority and due-date range.
+ * Columns show filtered views of the repository's lists, so a new filter only
+ * changes which tasks are visible and no cards are rebuilt. Text is matched by
+ * the full-text index: typing is debounced and the query runs in the background,
+ * after any pending task changes have been written. While text is entered, changes
+ * to the filtered lists run the query again, so new and edited tasks are matched.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskFilter {
+
+    public static final int ANY_PRIORITY = -1;
+
+    private final TaskRepository taskRepository;
+    private final int userID;
+    private final TaskSearch taskSearch = new TaskSearch();
+    private final RequestManager searchManager = new RequestManager();
+    private final ObjectProperty<Predicate<Task>> predicate = new SimpleObjectProperty<>();
+    private final Set<ObservableList<Task>> watchedSources = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ListChangeListener<Task> sourceListener = this::onSourceChanged;
+
+    private String text = "";
+    private int priority = ANY_PRIORITY;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+    private Set<Integer> textMatches; // null while no text is entered
+
+    /**
+     * Constructor for the filter. Nothing is filtered until criteria are set.
+     *
+     * @param taskRepository TaskRepository holding the user's tasks
+     * @param userID         ID of the user
+     */
+    public TaskFilter(TaskRepository taskRepository, int userID) {
+        this.taskRepository = taskRepository;
+        this.userID = userID;
+    }
+
+    /**
+     * Returns a view of a list showing only the tasks that pass the filter.
+     *
+     * @param source Repository list, e.g. the backlog or a sprint column
+     * @return Filtered view that follows both the list and the filter
+     */
+    public FilteredList<Task> filter(ObservableList<Task> source) {
+        if (watchedSources.add(source)) source.addListener(sourceListener);
+        FilteredList<Task> filtered = new FilteredList<>(source);
+        filtered.predicateProperty().bind(predicate);
+        return filtered;
+    }
+
+    /**
+     * Sets the filter criteria. Priority and dates apply at once; text applies
+     * once its search has completed.
+     *
+     * @param text     Words every description must contain as prefixes, or blank
+     * @param priority Priority to show, or ANY_PRIORITY
+     * @param dueFrom  Earliest due date to show, or null
+     * @param dueTo    Latest due date to show, or null
+     */
+    public void setCriteria(String text, int priority, LocalDate dueFrom, LocalDate dueTo) {
+        String trimmed = text == null ? "" : text.trim();
+        boolean textChanged = !trimmed.equals(this.text);
+        this.text = trimmed;
+        this.priority = priority;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+
+        if (trimmed.isEmpty()) {
+            searchManager.cancelAll();
+            textMatches = null;
+        } else if (textChanged) {
+            searchText();
+            return; // Shown once the search completes, with the other criteria
+        }
+        updatePredicate();
+    }
+
+    /**
+     * Cancels any search in progress.
+     */
+    public void cancel() {
+        searchManager.cancelAll();
+    }
+
+    /**
+     * Runs the text search in the background and applies its result, unless superseded.
+     */
+    private void searchText() {
+        String query = text;
+        searchManager.submit(generation -> {
+            taskRepository.flush();
+            Set<Integer> ids = taskSearch.search(query, userID);
+            searchManager.runIfCurrent(generation, () -> {
+                textMatches = ids;
+                updatePredicate();
+            });
+        });
+    }
+
+    /**
+     * Searches again when tasks are added or changed while text is entered.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends Task> change) {
+        if (text.isEmpty()) return;
+        while (change.next()) {
+            if (change.wasAdded()) {
+                searchText();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes a predicate for the current criteria, or none if nothing is filtered.
+     */
+    private void updatePredicate() {
+        Set<Integer> matches = textMatches;
+        int wantedPriority = priority;
+        String from = dueFrom != null ? dueFrom.toString() : null;
+        String to = dueTo != null ? dueTo.toString() : null;
+
+        if (matches == null && wantedPriority == ANY_PRIORITY && from == null && to == null) {
+            predicate.set(null);
+            return;
+        }
+
+        // Due dates are ISO yyyy-MM-dd, so they compare correctly as strings
+        predicate.set(task -> {
+            if (matches != null && !matches.contains(task.getId())) return false;
+            if (wantedPriority != ANY_PRIORITY && task.getPriority() != wantedPriority) return false;
+            if (from == null && to == null) return true;
+            String due = task.getDueDate();
+            if (due.isEmpty()) return false;
+            return (from == null || due.compareTo(from) >= 0) && (to == null || due.compareTo(to) <= 0);
+        });
+    }
+}
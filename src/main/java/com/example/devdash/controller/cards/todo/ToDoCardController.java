@@ -1,20 +1,27 @@
 package com.example.devdash.controller.cards.todo;
 
 import com.example.devdash.controller.cards.DashboardCard;
+import com.example.devdash.helper.data.BackgroundTasks;
 import com.example.devdash.helper.data.Session;
 import com.example.devdash.model.todo.Sprint;
-import com.example.devdash.model.todo.SprintModel;
 import com.example.devdash.model.todo.Task;
-import com.example.devdash.model.todo.TaskModel;
+import com.example.devdash.model.todo.TaskExporter;
+import com.example.devdash.model.todo.TaskImporter;
+import com.example.devdash.model.todo.TaskRepository;
 import com.example.devdash.model.auth.User;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
-import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 
+import java.io.File;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -22,10 +29,12 @@ import java.util.List;
  * Controller for the To-do card in the dashboard.
  *
  * Supports sprint selection, task creation, task editing, drag-and-drop
- * between columns, and sprint lifecycle (add/finish).
+ * between columns, filtering by text, priority and due date, sprint
+ * lifecycle (add/finish), sprint burndown/velocity stats and
+ * importing/exporting tasks as CSV or JSON.
  *
  * Author: Alexander Sukhin
- * Version: 30/08/2025
+ * Version: 19/10/2026
  */
 public class ToDoCardController implements DashboardCard {
 
@@ -33,27 +42,34 @@ public class ToDoCardController implements DashboardCard {
     @FXML private StackPane rootNode;
     @FXML private ComboBox<Sprint> sprintComboBox;
     @FXML private Label sprintLabel;
+    @FXML private Label forecastLabel;
+    @FXML private Label transferLabel;
     @FXML private HBox sprintContainer;
     @FXML private ScrollPane cardScrollPane;
 
-    @FXML private VBox backlogTasks;
-    @FXML private VBox todoTasks;
-    @FXML private VBox inProgressTasks;
-    @FXML private VBox doneTasks;
+    @FXML private ListView<Task> backlogTasks;
+    @FXML private ListView<Task> todoTasks;
+    @FXML private ListView<Task> inProgressTasks;
+    @FXML private ListView<Task> doneTasks;
 
     @FXML private Button addBacklogCard;
 
+    @FXML private TextField filterText;
+    @FXML private ComboBox<String> filterPriority;
+    @FXML private DatePicker filterDueFrom;
+    @FXML private DatePicker filterDueTo;
+
     private int userId;
-    private TaskModel taskModel;
-    private SprintModel sprintModel;
-    private TaskNodeFactory taskNodeFactory;
+    private TaskRepository taskRepository;
     private DragAndDropHandler dragHandler;
+    private TaskFilter taskFilter;
+    private SprintForecaster forecaster;
 
 
     /**
      * Initializes the controller after the FXML is loaded.
-     * Retrieves current user, initializes model and factories,
-     * loads tasks from DB, and sets up add task buttons and drag-and-drop.
+     * Retrieves current user, initializes the task repository and factories,
+     * binds the columns to its tasks, and sets up add task buttons and drag-and-drop.
      */
     @FXML
     public void initialize() {
@@ -61,7 +77,7 @@ public class ToDoCardController implements DashboardCard {
         initModelsAndFactories();
         loadSprintOptions();
         setupEventHandlers();
-        reloadUI();
+        onSprintSelected();
         bindScrollPaneWidth();
     }
 
@@ -74,13 +90,25 @@ public class ToDoCardController implements DashboardCard {
     }
 
     /**
-     * Initializes database models and helper factories for tasks and sprints.
+     * Initializes the task repository, the drag handler and the task cells of each column.
      */
     private void initModelsAndFactories() {
-        taskModel = new TaskModel();
-        sprintModel = new SprintModel();
-        taskNodeFactory = new TaskNodeFactory(taskModel, this::reloadUI, task -> TaskDialog.showTaskDialog(task, sprintComboBox.getValue(), this::reloadUI));
-        dragHandler = new DragAndDropHandler(taskModel, this::reloadUI, this::getSelectedSprintId);
+        taskRepository = TaskRepository.forUser(userId);
+        taskRepository.setOnWriteFailed(message -> Platform.runLater(() -> {
+            Alert alert = new Alert(Alert.AlertType.ERROR, message);
+            alert.setTitle("To-do");
+            alert.setHeaderText("Some changes could not be saved");
+            alert.show();
+        }));
+        dragHandler = new DragAndDropHandler(taskRepository, this::getSelectedSprintId);
+        taskFilter = new TaskFilter(taskRepository, userId);
+        forecaster = new SprintForecaster(taskRepository, forecastLabel);
+
+        for (ListView<Task> column : List.of(backlogTasks, todoTasks, inProgressTasks, doneTasks)) {
+            column.setCellFactory(list -> new TaskCell(taskRepository,
+                    task -> TaskDialog.showTaskDialog(taskRepository, task, sprintComboBox.getValue())));
+        }
+        backlogTasks.setItems(taskFilter.filter(taskRepository.getBacklog()));
     }
 
     /**
@@ -89,12 +117,49 @@ public class ToDoCardController implements DashboardCard {
      */
     private void setupEventHandlers() {
         sprintComboBox.setOnAction(e -> onSprintSelected());
-        addBacklogCard.setOnAction(e -> TaskDialog.showTaskDialog(null, sprintComboBox.getValue(), this::reloadUI));
+        addBacklogCard.setOnAction(e -> TaskDialog.showTaskDialog(taskRepository, null, sprintComboBox.getValue()));
 
         dragHandler.setupDragAndDrop(backlogTasks, "BACKLOG");
         dragHandler.setupDragAndDrop(todoTasks, "TODO");
         dragHandler.setupDragAndDrop(inProgressTasks, "IN_PROGRESS");
         dragHandler.setupDragAndDrop(doneTasks, "DONE");
+
+        filterPriority.getItems().setAll("Any Priority", "Low", "Medium", "High");
+        filterPriority.getSelectionModel().selectFirst();
+        filterText.textProperty().addListener((obs, oldVal, newVal) -> applyFilter());
+        filterPriority.setOnAction(e -> applyFilter());
+        filterDueFrom.setOnAction(e -> applyFilter());
+        filterDueTo.setOnAction(e -> applyFilter());
+        // The card leaves the scene when hidden from the dashboard or on logout
+        rootNode.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene == null) {
+                taskFilter.cancel();
+                forecaster.stop();
+            } else {
+                forecaster.show(sprintComboBox.getValue());
+            }
+        });
+    }
+
+    /**
+     * Applies the filter bar's criteria to every column.
+     */
+    private void applyFilter() {
+        // "Any Priority" is index 0, so the index is one above the task priority
+        int priority = Math.max(filterPriority.getSelectionModel().getSelectedIndex(), 0) - 1;
+        taskFilter.setCriteria(filterText.getText(), priority, filterDueFrom.getValue(), filterDueTo.getValue());
+    }
+
+    /**
+     * Clears the filter bar and shows all tasks again.
+     */
+    @FXML
+    private void clearFilter() {
+        filterText.clear();
+        filterPriority.getSelectionModel().selectFirst();
+        filterDueFrom.setValue(null);
+        filterDueTo.setValue(null);
+        applyFilter();
     }
 
     /**
@@ -112,14 +177,14 @@ public class ToDoCardController implements DashboardCard {
     private void onSprintSelected() {
         Sprint selected = sprintComboBox.getValue();
         if (selected == null || selected.getId() == 0) {
-            clearSprintBoard();
             sprintLabel.setText("No Sprint Selected");
             sprintContainer.setVisible(false);
         } else {
-            loadSprintBoard(selected.getId());
             sprintLabel.setText(selected.getName());
             sprintContainer.setVisible(true);
         }
+        bindSprintBoard(getSelectedSprintId());
+        forecaster.show(selected);
     }
 
     /**
@@ -133,16 +198,6 @@ public class ToDoCardController implements DashboardCard {
         return selected != null ? selected.getId() : 0;
     }
 
-    /**
-     * Loads backlog tasks from DB and displays them in backlog column.
-     */
-    private void loadBacklog() {
-        backlogTasks.getChildren().clear();
-        taskModel.getBacklogTasks(userId).forEach(task ->
-                backlogTasks.getChildren().add(taskNodeFactory.createTaskNode(task))
-        );
-    }
-
     /**
      * Populates sprint dropdown with user sprints.
      * Includes "No Sprint" as the default option.
@@ -150,45 +205,30 @@ public class ToDoCardController implements DashboardCard {
     private void loadSprintOptions() {
         sprintComboBox.getItems().clear();
         sprintComboBox.getItems().add(new Sprint(0, "No Sprint"));
-        sprintComboBox.getItems().addAll(sprintModel.getSprintsForUser(userId));
+        sprintComboBox.getItems().addAll(taskRepository.getSprints());
         sprintComboBox.getSelectionModel().selectFirst();
     }
 
     /**
-     * Loads all tasks for the given sprint ID into the board,
-     * sorting them into the correct status column.
+     * Binds the sprint columns to the tasks of a sprint, or empties them if none is selected.
+     * The columns then follow the repository through the filter, and only their visible rows have cells.
      *
-     * @param sprintId The sprint to load tasks for
+     * @param sprintId The sprint to show, or 0
      */
-    private void loadSprintBoard(int sprintId) {
-        clearSprintBoard();
-
-        taskModel.getTasksForSprint(sprintId).forEach(task -> {
-            Node node = taskNodeFactory.createTaskNode(task);
-            switch (task.getStatus()) {
-                case "TODO" -> todoTasks.getChildren().add(node);
-                case "IN_PROGRESS" -> inProgressTasks.getChildren().add(node);
-                case "DONE" -> doneTasks.getChildren().add(node);
-            }
-        });
+    private void bindSprintBoard(int sprintId) {
+        todoTasks.setItems(sprintColumn(sprintId, "TODO"));
+        inProgressTasks.setItems(sprintColumn(sprintId, "IN_PROGRESS"));
+        doneTasks.setItems(sprintColumn(sprintId, "DONE"));
     }
 
     /**
-     * Clears all sprint task columns.
+     * @param sprintId The sprint to show, or 0
+     * @param status   TODO, IN_PROGRESS or DONE
+     * @return Filtered tasks of the sprint column, or an empty list if no sprint is selected
      */
-    private void clearSprintBoard() {
-        todoTasks.getChildren().clear();
-        inProgressTasks.getChildren().clear();
-        doneTasks.getChildren().clear();
-    }
-
-    /**
-     * Reloads the entire To-do card UI.
-     * Re-fetches backlog and updates sprint board.
-     */
-    private void reloadUI() {
-        loadBacklog();
-        onSprintSelected();
+    private ObservableList<Task> sprintColumn(int sprintId, String status) {
+        if (sprintId == 0) return FXCollections.observableArrayList();
+        return taskFilter.filter(taskRepository.getColumn(sprintId, status));
     }
 
     /**
@@ -196,7 +236,7 @@ public class ToDoCardController implements DashboardCard {
      */
     @FXML
     private void addSprint() {
-        SprintDialog.showAddSprintDialog(userId, sprintModel, this::loadSprintOptions);
+        SprintDialog.showAddSprintDialog(taskRepository, this::loadSprintOptions);
     }
 
     /**
@@ -216,19 +256,78 @@ public class ToDoCardController implements DashboardCard {
         confirm.setHeaderText("Move non-done tasks back to backlog?");
         if (confirm.showAndWait().orElse(ButtonType.CANCEL) != ButtonType.OK) return;
 
-        taskModel.getTasksForSprint(selected.getId()).forEach(task -> {
-            if (!task.getStatus().equals("DONE")) {
-                taskModel.removeTaskFromSprint(task.getId());
-                taskModel.updateTaskStatus(task.getId(), "BACKLOG");
-                taskModel.updateTaskTimestamp(task.getId());
-            } else {
-                taskModel.deleteTask(task.getId());
+        taskRepository.finishSprint(selected.getId());
+        loadSprintOptions();
+        onSprintSelected();
+    }
+
+    /**
+     * Opens the burndown of the selected sprint and the velocity of recent sprints.
+     */
+    @FXML
+    private void showSprintStats() {
+        SprintStatsDialog.showSprintStatsDialog(taskRepository, sprintComboBox.getValue());
+    }
+
+    /**
+     * Imports tasks from a CSV or JSON file into the backlog in the background.
+     * Tasks appear batch by batch as they are written.
+     */
+    @FXML
+    private void importTasks() {
+        File file = taskFileChooser("Import Tasks").showOpenDialog(rootNode.getScene().getWindow());
+        if (file == null) return;
+
+        TaskImporter importer = taskRepository.createImporter();
+        transferLabel.setText("Importing...");
+        BackgroundTasks.execute(() -> {
+            try {
+                int count = importer.importFile(file.toPath(),
+                        progress -> Platform.runLater(() ->
+                                transferLabel.setText("Importing... " + Math.round(progress * 100) + "%")),
+                        batch -> Platform.runLater(() -> taskRepository.addImported(batch)));
+                Platform.runLater(() -> transferLabel.setText("Imported " + count + " tasks"));
+            } catch (IOException e) {
+                e.printStackTrace();
+                Platform.runLater(() -> transferLabel.setText("Import failed"));
             }
         });
+    }
 
-        sprintModel.deleteSprint(selected.getId());
-        loadSprintOptions();
-        reloadUI();
+    /**
+     * Exports the user's tasks and sprints to a CSV or JSON file in the background.
+     */
+    @FXML
+    private void exportTasks() {
+        FileChooser chooser = taskFileChooser("Export Tasks");
+        chooser.setInitialFileName("tasks.csv");
+        File file = chooser.showSaveDialog(rootNode.getScene().getWindow());
+        if (file == null) return;
+
+        TaskExporter exporter = taskRepository.createExporter();
+        transferLabel.setText("Exporting...");
+        BackgroundTasks.execute(() -> {
+            try {
+                int count = exporter.exportFile(file.toPath());
+                Platform.runLater(() -> transferLabel.setText("Exported " + count + " tasks to " + file.getName()));
+            } catch (IOException e) {
+                e.printStackTrace();
+                Platform.runLater(() -> transferLabel.setText("Export failed"));
+            }
+        });
+    }
+
+    /**
+     * @param title Title of the file dialog
+     * @return FileChooser for CSV and JSON task files
+     */
+    private static FileChooser taskFileChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV files", "*.csv"),
+                new FileChooser.ExtensionFilter("JSON files", "*.json"));
+        return chooser;
     }
 
     /**
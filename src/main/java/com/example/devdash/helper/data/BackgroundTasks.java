@@ -0,0 +1,103 @@
+package com.example.devdash.helper.data;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared background executors for work that must stay off the JavaFX thread.
+ * A small bounded pool runs blocking work such as network and database calls,
+ * and a single scheduler thread handles delays like debouncing. When the pool's queue
+ * is full, requests cancelled because they were superseded are cleared out of it first;
+ * if there is still no room the work is rejected, never run on the thread that submitted
+ * it, which may be the JavaFX thread or the scheduler. Work that must not be lost is
+ * submitted with execute(), which tries again after a short delay instead.
+ * All threads are daemons so they never keep the application alive.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class BackgroundTasks {
+
+    private static final int WORKER_THREADS = 4;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final long RETRY_MILLIS = 100;
+
+    private static final ExecutorService WORKERS = new ThreadPoolExecutor(
+            WORKER_THREADS, WORKER_THREADS, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            daemonThreads("devdash-worker"),
+            BackgroundTasks::rejectOverflow);
+
+    private static final ScheduledExecutorService SCHEDULER =
+            new ScheduledThreadPoolExecutor(1, daemonThreads("devdash-scheduler"));
+
+    private BackgroundTasks() {
+    }
+
+    /**
+     * @return Shared bounded executor for blocking background work
+     */
+    public static ExecutorService workers() {
+        return WORKERS;
+    }
+
+    /**
+     * @return Shared scheduler for delayed and periodic tasks. Tasks should be short.
+     */
+    public static ScheduledExecutorService scheduler() {
+        return SCHEDULER;
+    }
+
+    /**
+     * Runs work on the worker pool, waiting on the scheduler and trying again while the
+     * pool is full, so the work is never dropped and never runs on the calling thread.
+     *
+     * @param work Work to run
+     */
+    public static void execute(Runnable work) {
+        try {
+            WORKERS.execute(work);
+        } catch (RejectedExecutionException e) {
+            if (!WORKERS.isShutdown()) SCHEDULER.schedule(() -> execute(work), RETRY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Handles work that does not fit in the full worker pool. Superseded requests that
+     * have been cancelled are removed from the queue to make room; if that is not enough
+     * the work is rejected, so callers keep control over what waits and what is dropped.
+     *
+     * @param runnable Rejected work
+     * @param executor Pool that rejected it
+     * @throws RejectedExecutionException If the queue is still full
+     */
+    private static void rejectOverflow(Runnable runnable, ThreadPoolExecutor executor) {
+        if (!executor.isShutdown()) {
+            executor.purge();
+            if (executor.getQueue().offer(runnable)) return;
+        }
+        throw new RejectedExecutionException("Background workers are busy");
+    }
+
+    /**
+     * Creates a factory for named daemon threads.
+     *
+     * @param prefix Thread name prefix
+     * @return ThreadFactory
+     */
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
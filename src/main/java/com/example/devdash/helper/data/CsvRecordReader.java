@@ -0,0 +1,117 @@
+package com.example.devdash.helper.data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams the rows of a CSV file with a header row, as records keyed by column name.
+ * Follows RFC 4180: fields may be quoted, quotes inside them are doubled, and quoted
+ * fields may span lines. Input is read through a fixed buffer one row at a time.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CsvRecordReader implements RecordReader {
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private final String[] header;
+
+    /**
+     * Constructor reads the header row.
+     *
+     * @param reader Reader over the CSV text
+     * @throws IOException If the header cannot be read
+     */
+    public CsvRecordReader(Reader reader) throws IOException {
+        this.reader = reader;
+        List<String> columns = readRow();
+        header = new String[columns == null ? 0 : columns.size()];
+        for (int i = 0; i < header.length; i++) {
+            String column = columns.get(i).trim().toLowerCase(Locale.ROOT);
+            header[i] = i == 0 && column.startsWith("\uFEFF") ? column.substring(1) : column;
+        }
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        List<String> row;
+        do {
+            row = readRow();
+            if (row == null) return null;
+        } while (row.size() == 1 && row.get(0).isEmpty()); // Blank line
+
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < header.length && i < row.size(); i++) record.put(header[i], row.get(i));
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads one row, which may span lines inside quoted fields.
+     *
+     * @return Fields of the row, or null at the end of the input
+     * @throws IOException If the input cannot be read
+     */
+    private List<String> readRow() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) break; // Unterminated quote: keep what was read
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == -1 || c == '\n') {
+                break;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * @return Next character, or -1 at the end of the input
+     * @throws IOException If the input cannot be read
+     */
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
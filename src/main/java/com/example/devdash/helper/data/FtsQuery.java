@@ -0,0 +1,31 @@
+package com.example.devdash.helper.data;
+
+/**
+ * Builds SQLite FTS5 queries from text typed by the user.
+ * Shared by the commit and task searches so both match words the same way.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class FtsQuery {
+
+    private FtsQuery() {
+    }
+
+    /**
+     * Turns free text into an FTS5 query where every word must match as a prefix.
+     * Words are quoted so characters with a meaning in FTS5 syntax are matched literally.
+     *
+     * @param text Text typed by the user
+     * @return FTS5 query, or an empty string if there are no words
+     */
+    public static String prefixMatch(String text) {
+        StringBuilder query = new StringBuilder();
+        for (String word : text.trim().split("\\s+")) {
+            if (word.isEmpty()) continue;
+            if (query.length() > 0) query.append(' ');
+            query.append('"').append(word.replace("\"", "\"\"")).append("\"*");
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.devdash.helper.data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams the objects of a JSON array as flat records, one at a time.
+ * The array is either the whole document or the value of a given key of the
+ * top-level object, e.g. {"tasks": [...]}; other keys are skipped. String,
+ * number and boolean fields are kept as text; nulls, nested objects and arrays
+ * are skipped.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class JsonRecordReader implements RecordReader {
+
+    private final Reader reader;
+    private final String arrayKey;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int pushedBack = -2; // -2 when nothing is pushed back
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * Constructor for the reader.
+     *
+     * @param reader   Reader over the JSON text
+     * @param arrayKey Key of the array when the document is an object
+     */
+    public JsonRecordReader(Reader reader, String arrayKey) {
+        this.reader = reader;
+        this.arrayKey = arrayKey;
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        while (!finished) {
+            int c;
+            if (!started) {
+                started = true;
+                if (!enterArray()) {
+                    finished = true;
+                    return null;
+                }
+                c = nextNonWhitespace();
+                if (c == ']') break;
+            } else {
+                c = nextNonWhitespace();
+                if (c == ']') break;
+                if (c != ',') throw syntaxError("',' or ']'", c);
+                c = nextNonWhitespace();
+            }
+
+            if (c == '{') return readObject();
+            skipValue(c); // Not an object, so not a record
+        }
+        finished = true;
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Moves to just inside the array of records.
+     *
+     * @return True if an array was found
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    private boolean enterArray() throws IOException {
+        int c = nextNonWhitespace();
+        if (c == '[') return true;
+        if (c != '{') return false;
+
+        c = nextNonWhitespace();
+        while (c == '"') {
+            String key = readString();
+            expect(':');
+            c = nextNonWhitespace();
+            if (key.equals(arrayKey) && c == '[') return true;
+            skipValue(c);
+            c = nextNonWhitespace();
+            if (c == ',') c = nextNonWhitespace();
+        }
+        return false;
+    }
+
+    /**
+     * Reads the fields of an object whose opening brace has been read.
+     *
+     * @return Field values by lower-case key
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    private Map<String, String> readObject() throws IOException {
+        Map<String, String> record = new HashMap<>();
+        int c = nextNonWhitespace();
+        if (c == '}') return record;
+
+        while (true) {
+            if (c != '"') throw syntaxError("a key", c);
+            String key = readString().toLowerCase(Locale.ROOT);
+            expect(':');
+
+            c = nextNonWhitespace();
+            if (c == '"') {
+                record.put(key, readString());
+            } else if (c == '{' || c == '[') {
+                skipValue(c);
+            } else {
+                String literal = readLiteral(c);
+                if (!literal.equals("null")) record.put(key, literal);
+            }
+
+            c = nextNonWhitespace();
+            if (c == '}') return record;
+            if (c != ',') throw syntaxError("',' or '}'", c);
+            c = nextNonWhitespace();
+        }
+    }
+
+    /**
+     * Skips a value whose first character has been read.
+     *
+     * @param c First character of the value
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    private void skipValue(int c) throws IOException {
+        if (c == '"') {
+            readString();
+        } else if (c == '{' || c == '[') {
+            int depth = 1;
+            while (depth > 0) {
+                c = read();
+                if (c == -1) throw syntaxError("end of value", c);
+                if (c == '"') readString();
+                else if (c == '{' || c == '[') depth++;
+                else if (c == '}' || c == ']') depth--;
+            }
+        } else {
+            readLiteral(c);
+        }
+    }
+
+    /**
+     * Reads a number, true, false or null whose first character has been read.
+     *
+     * @param c First character of the literal
+     * @return The literal as text
+     * @throws IOException If the input cannot be read
+     */
+    private String readLiteral(int c) throws IOException {
+        StringBuilder literal = new StringBuilder();
+        while (c != -1 && c != ',' && c != '}' && c != ']' && !Character.isWhitespace(c)) {
+            literal.append((char) c);
+            c = read();
+        }
+        pushedBack = c;
+        if (literal.length() == 0) throw syntaxError("a value", c);
+        return literal.toString();
+    }
+
+    /**
+     * Reads a string whose opening quote has been read.
+     *
+     * @return The unescaped string
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    private String readString() throws IOException {
+        StringBuilder string = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == -1) throw syntaxError("end of string", c);
+            if (c == '"') return string.toString();
+            if (c != '\\') {
+                string.append((char) c);
+                continue;
+            }
+
+            c = read();
+            switch (c) {
+                case 'b' -> string.append('\b');
+                case 'f' -> string.append('\f');
+                case 'n' -> string.append('\n');
+                case 'r' -> string.append('\r');
+                case 't' -> string.append('\t');
+                case 'u' -> {
+                    char[] hex = new char[4];
+                    for (int i = 0; i < 4; i++) {
+                        int h = read();
+                        if (h == -1) throw syntaxError("a unicode escape", h);
+                        hex[i] = (char) h;
+                    }
+                    try {
+                        string.append((char) Integer.parseInt(new String(hex), 16));
+                    } catch (NumberFormatException e) {
+                        throw new IOException("Invalid unicode escape in JSON: \\u" + new String(hex));
+                    }
+                }
+                case -1 -> throw syntaxError("an escape", c);
+                default -> string.append((char) c); // \" \\ \/
+            }
+        }
+    }
+
+    /**
+     * Reads the next non-whitespace character and checks it.
+     *
+     * @param expected Character expected
+     * @throws IOException If it is a different character
+     */
+    private void expect(char expected) throws IOException {
+        int c = nextNonWhitespace();
+        if (c != expected) throw syntaxError("'" + expected + "'", c);
+    }
+
+    /**
+     * @return Next character that is not whitespace, or -1 at the end of the input
+     * @throws IOException If the input cannot be read
+     */
+    private int nextNonWhitespace() throws IOException {
+        int c = read();
+        while (c != -1 && Character.isWhitespace(c)) c = read();
+        return c;
+    }
+
+    /**
+     * @return Next character, or -1 at the end of the input
+     * @throws IOException If the input cannot be read
+     */
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * @return Exception describing what was expected and what was found
+     */
+    private static IOException syntaxError(String expected, int found) {
+        return new IOException("Malformed JSON: expected " + expected + " but found "
+                + (found == -1 ? "end of input" : "'" + (char) found + "'"));
+    }
+}
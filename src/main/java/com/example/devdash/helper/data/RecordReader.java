@@ -0,0 +1,23 @@
+package com.example.devdash.helper.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Streams flat records, such as CSV rows or JSON objects, one at a time,
+ * so large files never have to be held in memory.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public interface RecordReader extends Closeable {
+
+    /**
+     * Reads the next record.
+     *
+     * @return Field values by lower-case field name, or null at the end of the input
+     * @throws IOException If the input cannot be read or is malformed
+     */
+    Map<String, String> next() throws IOException;
+}
@@ -0,0 +1,110 @@
+package com.example.devdash.helper.data;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces background requests triggered by user input, such as filters and searches.
+ * Rapid requests are debounced, a new request cancels the one in flight,
+ * and every request is tagged with a generation number so that results of
+ * superseded requests are dropped instead of overwriting newer data.
+ * Work runs on the shared bounded background executor; while it is full, the
+ * latest request waits and the ones it supersedes are dropped.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class RequestManager {
+
+    private static final long DEBOUNCE_MILLIS = 300;
+
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pending;
+    private Future<?> inFlight;
+
+    /**
+     * A request run in the background, given its generation number.
+     */
+    @FunctionalInterface
+    public interface Request {
+        void run(long generation) throws Exception;
+    }
+
+    /**
+     * Schedules a request after the debounce delay, replacing any request that
+     * has not started yet and cancelling the one currently running.
+     *
+     * @param request Request to run
+     */
+    public synchronized void submit(Request request) {
+        long requestGeneration = generation.incrementAndGet();
+        if (pending != null) pending.cancel(false);
+
+        pending = BackgroundTasks.scheduler().schedule(
+                () -> start(request, requestGeneration), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts a debounced request unless it has been superseded in the meantime.
+     *
+     * @param request           Request to run
+     * @param requestGeneration Generation the request was tagged with
+     */
+    private synchronized void start(Request request, long requestGeneration) {
+        if (!isCurrent(requestGeneration)) return;
+        if (inFlight != null) inFlight.cancel(true);
+
+        try {
+            inFlight = BackgroundTasks.workers().submit(() -> {
+                try {
+                    request.run(requestGeneration);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    if (isCurrent(requestGeneration)) e.printStackTrace();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The workers are busy: wait another debounce, unless a newer request replaces this one
+            inFlight = null;
+            pending = BackgroundTasks.scheduler().schedule(
+                    () -> start(request, requestGeneration), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @param requestGeneration Generation a request was tagged with
+     * @return True if no newer request has been submitted since
+     */
+    public boolean isCurrent(long requestGeneration) {
+        return generation.get() == requestGeneration;
+    }
+
+    /**
+     * Runs a UI update on the JavaFX thread, but only if its request is still current.
+     *
+     * @param requestGeneration Generation the result belongs to
+     * @param update            UI update to apply
+     */
+    public void runIfCurrent(long requestGeneration, Runnable update) {
+        Platform.runLater(() -> {
+            if (isCurrent(requestGeneration)) update.run();
+        });
+    }
+
+    /**
+     * Cancels pending and running requests and invalidates their results.
+     */
+    public synchronized void cancelAll() {
+        generation.incrementAndGet();
+        if (pending != null) pending.cancel(false);
+        if (inFlight != null) inFlight.cancel(true);
+        pending = null;
+        inFlight = null;
+    }
+}
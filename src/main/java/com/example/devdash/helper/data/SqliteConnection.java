@@ -1,14 +1,24 @@
 package com.example.devdash.helper.data;
 import java.sql.*;
+import java.util.Properties;
 
 /**
  * Establishes a connection to the SQLite database.
+ * Most models share one connection. Work that runs its own transactions in the
+ * background opens a connection of its own, so other models' writes on the shared
+ * connection can never end up inside, or be rolled back with, its transactions.
  *
  * Author: Alexander Sukhin
  * Version: 04/08/2025
  */
 public class SqliteConnection {
 
+    private static final String DEFAULT_URL = "jdbc:sqlite:C:/Users/alex/AppData/Roaming/DevDash/database.db";
+    public static final String URL_PROPERTY = "devdash.db.url";
+
+    // How long a connection waits for another one's write to finish before failing
+    private static final int BUSY_TIMEOUT_MILLIS = 10_000;
+
     private static Connection connection;
 
     /**
@@ -19,8 +29,7 @@ public class SqliteConnection {
     public static Connection Connector() {
         if (connection == null) {
             try {
-                String url = "jdbc:sqlite:C:/Users/alex/AppData/Roaming/DevDash/database.db";
-                connection = DriverManager.getConnection(url);
+                connection = DriverManager.getConnection(url(), properties());
                 System.out.println("Connected to SQLite database");
             } catch (SQLException e) {
                 e.printStackTrace();
@@ -30,4 +39,54 @@ public class SqliteConnection {
         return connection;
     }
 
-}
\ No newline at end of file
+    /**
+     * Opens a new connection to the database, separate from the shared one.
+     * With write-ahead logging, readers on other connections are not blocked
+     * while this one writes.
+     *
+     * @return New Connection owned by the caller, or null if it cannot be opened
+     */
+    public static Connection open() {
+        try {
+            return DriverManager.getConnection(url(), properties());
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Opens a new read-only connection, e.g. for reading a consistent snapshot
+     * inside a transaction while other connections keep writing.
+     *
+     * @return New Connection owned by the caller, or null if it cannot be opened
+     */
+    public static Connection openReadOnly() {
+        Properties properties = new Properties();
+        properties.setProperty("open_mode", "1"); // SQLITE_OPEN_READONLY
+        properties.setProperty("busy_timeout", String.valueOf(BUSY_TIMEOUT_MILLIS));
+        try {
+            return DriverManager.getConnection(url(), properties);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * @return JDBC URL of the database, overridable with the devdash.db.url system property
+     */
+    private static String url() {
+        return System.getProperty(URL_PROPERTY, DEFAULT_URL);
+    }
+
+    /**
+     * @return Connection settings: write-ahead logging, and waiting for other connections' writes
+     */
+    private static Properties properties() {
+        Properties properties = new Properties();
+        properties.setProperty("journal_mode", "WAL");
+        properties.setProperty("busy_timeout", String.valueOf(BUSY_TIMEOUT_MILLIS));
+        return properties;
+    }
+}
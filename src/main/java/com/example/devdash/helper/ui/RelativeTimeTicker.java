@@ -0,0 +1,66 @@
+package com.example.devdash.helper.ui;
+
+import com.example.devdash.helper.data.BackgroundTasks;
+import javafx.application.Platform;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared once-a-minute tick for labels showing relative times such as
+ * "Updated 5 minutes ago". A single timer on the shared scheduler serves every
+ * label; each tick reads the clock once and lets every registered view refresh
+ * on the JavaFX thread. Views are held weakly, so discarded ones drop out
+ * without being unregistered.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class RelativeTimeTicker {
+
+    private static final long TICK_SECONDS = 60;
+
+    // Only accessed on the JavaFX thread
+    private static final Set<Listener> LISTENERS = Collections.newSetFromMap(new WeakHashMap<>());
+    private static boolean started;
+
+    /**
+     * A view refreshed on every tick.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param nowEpochSecond Current time as epoch seconds
+         */
+        void tick(long nowEpochSecond);
+    }
+
+    private RelativeTimeTicker() {
+    }
+
+    /**
+     * Registers a view to be refreshed every minute. Must be called on the JavaFX thread.
+     * The view is held weakly, so the caller must keep a reference to it.
+     *
+     * @param listener View to refresh
+     */
+    public static void register(Listener listener) {
+        LISTENERS.add(listener);
+        if (started) return;
+        started = true;
+        BackgroundTasks.scheduler().scheduleAtFixedRate(
+                () -> Platform.runLater(RelativeTimeTicker::tick), TICK_SECONDS, TICK_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Refreshes every registered view against one clock reading.
+     */
+    private static void tick() {
+        long now = Instant.now().getEpochSecond();
+        for (Listener listener : new ArrayList<>(LISTENERS)) listener.tick(now);
+    }
+}
@@ -1,36 +1,45 @@
 package com.example.devdash.model.github;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
- * Represents a GitHub commit. Holds commit SHA,
- * message, URL, and timestamp
+ * Represents a GitHub commit. Holds commit SHA, repository,
+ * message, URL, and timestamp, plus its size once it has been fetched
  *
  * Author: Alexander Sukhin
- * Version: 05/08/2025
+ * Version: 19/10/2026
  */
 public class Commit {
 
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final String sha;
+    private final String repoFullName;
     private final String message;
     private final String url;
     private final LocalDateTime committedAt;
+    private final LocalDate committedDate;
+    private volatile CommitStats stats;
 
 
     /**
      * Constructor for the commit.
      *
-     * @param sha        The full commit SHA hash string
-     * @param message    The commit message text
-     * @param url        URL to the commit on GitHub
-     * @param commitedAt The time the commit was pushed
+     * @param sha          The full commit SHA hash string
+     * @param repoFullName Repo full name user/repo the commit belongs to
+     * @param message      The commit message text
+     * @param url          URL to the commit on GitHub
+     * @param commitedAt   The time the commit was pushed
      */
-    public Commit(String sha, String message, String url, LocalDateTime commitedAt) {
+    public Commit(String sha, String repoFullName, String message, String url, LocalDateTime commitedAt) {
         this.sha = sha;
+        this.repoFullName = repoFullName;
         this.message = message;
         this.url = url;
         this.committedAt = commitedAt;
+        this.committedDate = commitedAt.toLocalDate();
     }
 
     /**
@@ -40,6 +49,13 @@ public class Commit {
         return sha;
     }
 
+    /**
+     * @return Repo full name user/repo
+     */
+    public String getRepoFullName() {
+        return repoFullName;
+    }
+
     /**
      * @return Commit message string
      */
@@ -61,6 +77,29 @@ public class Commit {
         return committedAt;
     }
 
+    /**
+     * @return Commit day as LocalDate
+     */
+    public LocalDate getCommittedDate() {
+        return committedDate;
+    }
+
+    /**
+     * @return Lines and files changed, or null if not fetched yet
+     */
+    public CommitStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Attaches the commit's size once fetched. Commits never change, so this is set at most once.
+     *
+     * @param stats Lines and files changed
+     */
+    public void setStats(CommitStats stats) {
+        this.stats = stats;
+    }
+
     /**
      * Returns a short version of the commit message (max 50 chars).
      *
@@ -79,7 +118,7 @@ public class Commit {
      * @return Formatted commit date-time string
      */
     public String getFormattedCommittedAt() {
-        return committedAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        return committedAt.format(DISPLAY_FORMAT);
     }
 
     /**
@@ -0,0 +1,263 @@
+package com.example.devdash.model.github;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Cache of commits per repository, together with the date windows
+ * that have already been fully synced from GitHub. Overlapping queries only
+ * need to fetch the parts of their range that are not yet covered.
+ * If given a CommitStore, each repository is loaded from it on first use
+ * and every change is written through, so the cache survives restarts.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitCache {
+
+    private static final Comparator<Commit> NEWEST_FIRST =
+            Comparator.comparing(Commit::getCommittedAt).reversed().thenComparing(Commit::getSha);
+
+    private final Map<String, RepoEntry> repos = new HashMap<>();
+    private final CommitStore store;
+
+    /**
+     * An inclusive range of dates.
+     */
+    public static final class Window {
+        public final LocalDate start;
+        public final LocalDate end;
+
+        public Window(LocalDate start, LocalDate end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Cached commits and synced windows for a single repository.
+     */
+    private static final class RepoEntry {
+        private final NavigableSet<Commit> commits = new TreeSet<>(NEWEST_FIRST);
+        private final Set<String> shas = new HashSet<>();
+        private final List<Window> synced = new ArrayList<>(); // sorted, non-overlapping
+        private Instant lastSyncedAt;
+    }
+
+    /**
+     * Constructor for a cache held only in memory.
+     */
+    public CommitCache() {
+        this(null);
+    }
+
+    /**
+     * Constructor for a cache backed by persistent storage.
+     *
+     * @param store Store to load from and write through to. Can be null
+     */
+    public CommitCache(CommitStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Returns the parts of the given range that have not been synced yet for the repository.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param from         First day of the range
+     * @param to           Last day of the range
+     * @return Windows that still need to be fetched, oldest first
+     */
+    public synchronized List<Window> missingWindows(String repoFullName, LocalDate from, LocalDate to) {
+        List<Window> missing = new ArrayList<>();
+        LocalDate cursor = from;
+
+        for (Window w : entry(repoFullName).synced) {
+            if (w.end.isBefore(cursor)) continue;
+            if (w.start.isAfter(to)) break;
+            if (w.start.isAfter(cursor)) missing.add(new Window(cursor, w.start.minusDays(1)));
+            cursor = w.end.plusDays(1);
+            if (cursor.isAfter(to)) return missing;
+        }
+
+        if (!cursor.isAfter(to)) missing.add(new Window(cursor, to));
+        return missing;
+    }
+
+    /**
+     * Stores fetched commits and, if given, records the window they were fetched for as fully synced.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param commits      Commits fetched from GitHub
+     * @param syncedWindow Part of the window that was paged through completely, or null if none.
+     *                     Ignored if it ends before it starts
+     * @return Commits that were not cached before
+     */
+    public synchronized List<Commit> store(String repoFullName, List<Commit> commits, Window syncedWindow) {
+        RepoEntry entry = entry(repoFullName);
+        List<Commit> added = new ArrayList<>();
+        for (Commit c : commits) {
+            if (entry.shas.add(c.getSha())) {
+                entry.commits.add(c);
+                added.add(c);
+            }
+        }
+        if (syncedWindow != null && !syncedWindow.end.isBefore(syncedWindow.start)) {
+            addWindow(entry.synced, syncedWindow);
+        }
+        if (store != null) store.save(repoFullName, added, entry.synced);
+        return added;
+    }
+
+    /**
+     * Returns the cached commits of a repository in the date range, newest first.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param from         First day of the range
+     * @param to           Last day of the range
+     * @return List of Commit objects
+     */
+    public synchronized List<Commit> getCommits(String repoFullName, LocalDate from, LocalDate to) {
+        List<Commit> results = new ArrayList<>();
+        for (Commit c : entry(repoFullName).commits) {
+            LocalDate date = c.getCommittedDate();
+            if (date.isAfter(to)) continue;
+            if (date.isBefore(from)) break;
+            results.add(c);
+        }
+        return results;
+    }
+
+    /**
+     * Attaches the size of a commit and persists it.
+     *
+     * @param commit Commit the stats belong to
+     * @param stats  Lines and files changed
+     */
+    public void storeStats(Commit commit, CommitStats stats) {
+        commit.setStats(stats);
+        if (store != null) store.saveStats(commit.getSha(), stats);
+    }
+
+    /**
+     * Records when the repository was last brought fully up to date.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param syncedAt     Time the sync started
+     */
+    public synchronized void markRepoSynced(String repoFullName, Instant syncedAt) {
+        entry(repoFullName).lastSyncedAt = syncedAt;
+        if (store != null) store.saveLastSyncedAt(repoFullName, syncedAt);
+    }
+
+    /**
+     * @param repoFullName Repo full name user/repo
+     * @return Time of the last full sync of the repository, or null if never synced
+     */
+    public synchronized Instant getLastSyncedAt(String repoFullName) {
+        return entry(repoFullName).lastSyncedAt;
+    }
+
+    /**
+     * @return Time of the most recent sync of any repository, or null if never synced
+     */
+    public synchronized Instant getLatestSync() {
+        if (store != null) return store.loadLatestSync();
+
+        Instant latest = null;
+        for (RepoEntry entry : repos.values()) {
+            if (entry.lastSyncedAt != null && (latest == null || entry.lastSyncedAt.isAfter(latest))) {
+                latest = entry.lastSyncedAt;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Marks everything from the given day onwards as not synced, so it is fetched again.
+     * Cached commits are kept and de-duplicated when refetched.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param from         First day that may have changed
+     */
+    public synchronized void invalidateFrom(String repoFullName, LocalDate from) {
+        RepoEntry entry = entry(repoFullName);
+        List<Window> kept = new ArrayList<>();
+        for (Window w : entry.synced) {
+            if (w.start.isBefore(from)) kept.add(w.end.isBefore(from) ? w : new Window(w.start, from.minusDays(1)));
+        }
+        entry.synced.clear();
+        entry.synced.addAll(kept);
+        if (store != null) store.saveWindows(repoFullName, entry.synced);
+    }
+
+    /**
+     * Drops everything held in memory for all repositories. Persisted data is kept.
+     */
+    public synchronized void clear() {
+        repos.clear();
+    }
+
+    /**
+     * Returns the entry of a repository, loading it from the store on first use.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @return RepoEntry, never null
+     */
+    private RepoEntry entry(String repoFullName) {
+        RepoEntry entry = repos.get(repoFullName);
+        if (entry != null) return entry;
+
+        entry = new RepoEntry();
+        if (store != null) {
+            for (Commit c : store.loadCommits(repoFullName)) {
+                if (entry.shas.add(c.getSha())) entry.commits.add(c);
+            }
+            entry.synced.addAll(store.loadWindows(repoFullName));
+            entry.lastSyncedAt = store.loadLastSyncedAt(repoFullName);
+        }
+        repos.put(repoFullName, entry);
+        return entry;
+    }
+
+    /**
+     * Inserts a window into a sorted list, merging it with any overlapping or adjacent windows.
+     *
+     * @param windows Sorted, non-overlapping windows
+     * @param added   Window to add
+     */
+    private void addWindow(List<Window> windows, Window added) {
+        LocalDate start = added.start;
+        LocalDate end = added.end;
+        List<Window> merged = new ArrayList<>();
+        boolean inserted = false;
+
+        for (Window w : windows) {
+            if (w.end.plusDays(1).isBefore(start)) {
+                merged.add(w);
+            } else if (end.plusDays(1).isBefore(w.start)) {
+                if (!inserted) {
+                    merged.add(new Window(start, end));
+                    inserted = true;
+                }
+                merged.add(w);
+            } else {
+                if (w.start.isBefore(start)) start = w.start;
+                if (w.end.isAfter(end)) end = w.end;
+            }
+        }
+        if (!inserted) merged.add(new Window(start, end));
+
+        windows.clear();
+        windows.addAll(merged);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.devdash.model.github;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Fetches the size of commits in the background, one request per commit,
+ * only for the commits the user can see. Each request replaces the queue
+ * with the commits currently visible, ranked by position, so scrolling away
+ * drops work that is no longer needed. The queue is bounded and a few
+ * virtual threads drain it.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitEnricher {
+
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int MAX_WORKERS = 3;
+
+    private final StatsFetch fetch;
+    private final PriorityQueue<Job> queue = new PriorityQueue<>(Comparator.comparingInt(job -> job.rank));
+    private final Set<String> inFlight = new HashSet<>();
+    private int workers;
+
+    /**
+     * Fetches and stores the stats of a single commit.
+     */
+    @FunctionalInterface
+    public interface StatsFetch {
+        CommitStats fetch(Commit commit) throws IOException;
+    }
+
+    /**
+     * A commit waiting to be enriched, ranked by how close it is to being visible.
+     */
+    private static final class Job {
+        private final Commit commit;
+        private final int rank;
+        private final Consumer<Commit> onEnriched;
+
+        private Job(Commit commit, int rank, Consumer<Commit> onEnriched) {
+            this.commit = commit;
+            this.rank = rank;
+            this.onEnriched = onEnriched;
+        }
+    }
+
+    /**
+     * Constructor for the enricher.
+     *
+     * @param fetch Fetches, stores and attaches the stats of a commit
+     */
+    public CommitEnricher(StatsFetch fetch) {
+        this.fetch = fetch;
+    }
+
+    /**
+     * Replaces the queue with the given commits, most visible first.
+     * Commits that already have stats or are being fetched are skipped,
+     * and only the first QUEUE_CAPACITY of the rest are queued.
+     *
+     * @param commits    Commits ordered by visibility, most visible first
+     * @param onEnriched Called from a background thread as each commit gets its stats
+     */
+    public synchronized void request(List<Commit> commits, Consumer<Commit> onEnriched) {
+        queue.clear();
+        for (int i = 0; i < commits.size() && queue.size() < QUEUE_CAPACITY; i++) {
+            Commit commit = commits.get(i);
+            if (commit.getStats() == null && !inFlight.contains(commit.getSha())) {
+                queue.add(new Job(commit, i, onEnriched));
+            }
+        }
+
+        while (workers < MAX_WORKERS && workers < queue.size()) {
+            workers++;
+            Thread.ofVirtual().name("devdash-enricher").start(this::drain);
+        }
+    }
+
+    /**
+     * Drops every queued commit. Requests already running complete.
+     */
+    public synchronized void cancel() {
+        queue.clear();
+    }
+
+    /**
+     * Worker loop: fetches queued commits until the queue is empty.
+     */
+    private void drain() {
+        while (true) {
+            Job job;
+            synchronized (this) {
+                job = queue.poll();
+                if (job == null) {
+                    workers--;
+                    return;
+                }
+                inFlight.add(job.commit.getSha());
+            }
+
+            try {
+                fetch.fetch(job.commit);
+                job.onEnriched.accept(job.commit);
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                synchronized (this) {
+                    inFlight.remove(job.commit.getSha());
+                }
+            }
+        }
+    }
+}
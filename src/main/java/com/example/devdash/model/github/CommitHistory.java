@@ -0,0 +1,110 @@
+package com.example.devdash.model.github;
+
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Reads pages of stored commits, newest first, so long commit lists can be
+ * loaded as the user scrolls. Pages continue from the last commit shown
+ * (keyset paging), so every page is an index range scan however deep it is.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitHistory {
+
+    private static final Comparator<Commit> NEWEST_FIRST =
+            Comparator.comparing(Commit::getCommittedAt).reversed().thenComparing(Commit::getSha, Comparator.reverseOrder());
+
+    private final Connection connection;
+
+    /**
+     * Constructor for the history.
+     */
+    public CommitHistory() {
+        connection = SqliteConnection.Connector();
+    }
+
+    /**
+     * Loads the next page of commits.
+     *
+     * @param logins       Logins whose commits are listed, e.g. a GitHub login and local repositories
+     * @param repoFullName Repository to list, or null for all of them
+     * @param from         First day of the range
+     * @param to           Last day of the range
+     * @param after        Last commit of the previous page, or null for the first page
+     * @param limit        Maximum number of commits
+     * @return Commits older than after, newest first
+     */
+    public List<Commit> loadPage(List<String> logins, String repoFullName, LocalDate from, LocalDate to,
+                                 Commit after, int limit) {
+        List<Commit> page = new ArrayList<>();
+        if (connection == null) return page;
+
+        // Each login is read in index order and the results merged, rather than sorting across logins in SQL
+        for (String login : logins) page.addAll(loadLoginPage(login, repoFullName, from, to, after, limit));
+        page.sort(NEWEST_FIRST);
+        return page.size() > limit ? new ArrayList<>(page.subList(0, limit)) : page;
+    }
+
+    /**
+     * Loads the next page of a single login's commits.
+     */
+    private List<Commit> loadLoginPage(String login, String repoFullName, LocalDate from, LocalDate to,
+                                       Commit after, int limit) {
+        ZoneId zone = ZoneId.systemDefault();
+        long lower = from.atStartOfDay(zone).toEpochSecond();
+        long upper = to.plusDays(1).atStartOfDay(zone).toEpochSecond();
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT c.sha, c.repo, c.message, c.url, c.committedAt, st.additions, st.deletions, st.filesChanged "
+                + "FROM GitHubCommit c LEFT JOIN GitHubCommitStats st ON st.sha = c.sha "
+                + "WHERE c.login = ? AND c.committedAt >= ? AND c.committedAt < ?");
+        if (repoFullName != null) sql.append(" AND c.repo = ?");
+        if (after != null) sql.append(" AND (c.committedAt < ? OR (c.committedAt = ? AND c.sha < ?))");
+        sql.append(" ORDER BY c.committedAt DESC, c.sha DESC LIMIT ?");
+
+        List<Commit> commits = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql.toString())) {
+            int i = 1;
+            stmt.setString(i++, login);
+            stmt.setLong(i++, lower);
+            stmt.setLong(i++, upper);
+            if (repoFullName != null) stmt.setString(i++, repoFullName);
+            if (after != null) {
+                long afterSecond = after.getCommittedAt().atZone(zone).toEpochSecond();
+                stmt.setLong(i++, afterSecond);
+                stmt.setLong(i++, afterSecond);
+                stmt.setString(i++, after.getSha());
+            }
+            stmt.setInt(i, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Commit commit = new Commit(
+                            rs.getString("sha"),
+                            rs.getString("repo"),
+                            rs.getString("message"),
+                            rs.getString("url"),
+                            LocalDateTime.ofInstant(Instant.ofEpochSecond(rs.getLong("committedAt")), zone));
+                    int additions = rs.getInt("additions");
+                    if (!rs.wasNull()) {
+                        commit.setStats(new CommitStats(additions, rs.getInt("deletions"), rs.getInt("filesChanged")));
+                    }
+                    commits.add(commit);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return commits;
+    }
+}
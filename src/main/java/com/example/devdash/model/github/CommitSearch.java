@@ -0,0 +1,87 @@
+package com.example.devdash.model.github;
+
+import com.example.devdash.helper.data.FtsQuery;
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Full-text search over the messages of every stored commit, using the
+ * SQLite FTS5 index maintained by CommitStore. Each word typed is matched
+ * as a prefix and results are ranked by relevance.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitSearch {
+
+    private final Connection connection;
+
+    /**
+     * Constructor for the search.
+     */
+    public CommitSearch() {
+        connection = SqliteConnection.Connector();
+    }
+
+    /**
+     * Finds the commits whose message matches every word of the text.
+     *
+     * @param text   Text typed by the user
+     * @param logins Logins whose commits are searched, e.g. a GitHub login and local repositories
+     * @param limit  Maximum number of results
+     * @return Matching commits, most relevant first
+     */
+    public List<Commit> search(String text, List<String> logins, int limit) {
+        String match = toMatchQuery(text);
+        if (connection == null || match.isEmpty() || logins.isEmpty()) return Collections.emptyList();
+
+        String sql = "SELECT c.sha, c.repo, c.message, c.url, c.committedAt, st.additions, st.deletions, st.filesChanged "
+                + "FROM GitHubCommitSearch s "
+                + "JOIN GitHubCommit c ON c.login = s.login AND c.repo = s.repo AND c.sha = s.sha "
+                + "LEFT JOIN GitHubCommitStats st ON st.sha = c.sha "
+                + "WHERE GitHubCommitSearch MATCH ? AND s.login IN (" + String.join(", ", Collections.nCopies(logins.size(), "?")) + ") "
+                + "ORDER BY s.rank LIMIT ?";
+
+        List<Commit> results = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int i = 1;
+            stmt.setString(i++, match);
+            for (String login : logins) stmt.setString(i++, login);
+            stmt.setInt(i, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Commit commit = new Commit(
+                            rs.getString("sha"),
+                            rs.getString("repo"),
+                            rs.getString("message"),
+                            rs.getString("url"),
+                            LocalDateTime.ofInstant(Instant.ofEpochSecond(rs.getLong("committedAt")), ZoneId.systemDefault()));
+                    int additions = rs.getInt("additions");
+                    if (!rs.wasNull()) {
+                        commit.setStats(new CommitStats(additions, rs.getInt("deletions"), rs.getInt("filesChanged")));
+                    }
+                    results.add(commit);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return results;
+    }
+
+    /**
+     * @param text Text typed by the user
+     * @return FTS5 query matching every word as a prefix, or an empty string if there are no words
+     */
+    static String toMatchQuery(String text) {
+        return FtsQuery.prefixMatch(text);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.devdash.model.github;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A place commits can be read from, such as the GitHub API or a local clone.
+ * Every source fills the same CommitSummary, so the commit list and heatmap
+ * do not depend on where the commits came from.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public interface CommitSource {
+
+    // Earliest date searched when a range has no start; no commits can predate git itself
+    LocalDate EARLIEST_COMMIT_DATE = LocalDate.of(2005, 1, 1);
+
+    /**
+     * @return Names of the repositories this source can read
+     * @throws IOException If the repositories cannot be listed
+     */
+    List<String> listRepositoryNames() throws IOException;
+
+    /**
+     * Adds the commits of one or all repositories in the date range to the summary.
+     *
+     * @param repoFullName  Repository name from listRepositoryNames(), or null for all of them
+     * @param start         Start date. Can be null
+     * @param end           End date. Can be null
+     * @param summary       Summary receiving the commits
+     * @param onRepoFetched Receives the summary after each repository. Can be null
+     * @throws IOException If the commits cannot be read
+     */
+    void collectCommits(String repoFullName, LocalDate start, LocalDate end,
+                        CommitSummary summary, Consumer<CommitSummary> onRepoFetched) throws IOException;
+
+    /**
+     * @return Time commits were last brought up to date, or null if never
+     */
+    Instant getLastSyncedAt();
+}
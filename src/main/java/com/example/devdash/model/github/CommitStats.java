@@ -0,0 +1,65 @@
+package com.example.devdash.model.github;
+
+/**
+ * Size of a commit: lines added and deleted and number of files touched.
+ * Fetched separately from the commit list, as GitHub only includes it
+ * in the single commit response.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitStats {
+
+    private final int additions;
+    private final int deletions;
+    private final int filesChanged;
+
+    /**
+     * Constructor for the commit stats.
+     *
+     * @param additions    Lines added
+     * @param deletions    Lines deleted
+     * @param filesChanged Number of files touched
+     */
+    public CommitStats(int additions, int deletions, int filesChanged) {
+        this.additions = additions;
+        this.deletions = deletions;
+        this.filesChanged = filesChanged;
+    }
+
+    /**
+     * @return Lines added
+     */
+    public int getAdditions() {
+        return additions;
+    }
+
+    /**
+     * @return Lines deleted
+     */
+    public int getDeletions() {
+        return deletions;
+    }
+
+    /**
+     * @return Number of files touched
+     */
+    public int getFilesChanged() {
+        return filesChanged;
+    }
+
+    /**
+     * @return Lines added plus lines deleted
+     */
+    public int getLinesChanged() {
+        return additions + deletions;
+    }
+
+    /**
+     * @return Short summary such as "+12 -3, 2 files"
+     */
+    @Override
+    public String toString() {
+        return "+" + additions + " -" + deletions + ", " + filesChanged + (filesChanged == 1 ? " file" : " files");
+    }
+}
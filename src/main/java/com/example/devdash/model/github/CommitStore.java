@@ -0,0 +1,402 @@
+package com.example.devdash.model.github;
+
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * SQLite persistence for the commit cache of a single GitHub login.
+ * Stores fetched commits and their sizes, the date windows synced for each
+ * repository and when each repository was last synced, so the GitHub card can be served
+ * offline and picks up where it left off after a restart.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitStore {
+
+    private final Connection connection;
+    private final String login;
+
+    /**
+     * Constructor creates the commit tables if needed.
+     *
+     * @param login GitHub login the commits were fetched for
+     */
+    public CommitStore(String login) {
+        this.connection = SqliteConnection.Connector();
+        this.login = login;
+        createTables();
+    }
+
+    /**
+     * Loads every stored commit of a repository.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @return List of Commit objects
+     */
+    public List<Commit> loadCommits(String repoFullName) {
+        List<Commit> commits = new ArrayList<>();
+        if (connection == null) return commits;
+
+        String sql = "SELECT c.sha, c.message, c.url, c.committedAt, s.additions, s.deletions, s.filesChanged "
+                + "FROM GitHubCommit c LEFT JOIN GitHubCommitStats s ON s.sha = c.sha "
+                + "WHERE c.login = ? AND c.repo = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, login);
+            stmt.setString(2, repoFullName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Commit commit = new Commit(
+                            rs.getString("sha"),
+                            repoFullName,
+                            rs.getString("message"),
+                            rs.getString("url"),
+                            toDateTime(rs.getLong("committedAt")));
+                    int additions = rs.getInt("additions");
+                    if (!rs.wasNull()) {
+                        commit.setStats(new CommitStats(additions, rs.getInt("deletions"), rs.getInt("filesChanged")));
+                    }
+                    commits.add(commit);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return commits;
+    }
+
+    /**
+     * Streams the stored commits of a repository in a date range, newest first,
+     * without loading the whole history into memory.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param from         First day of the range
+     * @param to           Last day of the range
+     * @param consumer     Receives each commit and returns false to stop
+     */
+    public void forEachCommit(String repoFullName, LocalDate from, LocalDate to, Predicate<Commit> consumer) {
+        if (connection == null) return;
+
+        ZoneId zone = ZoneId.systemDefault();
+        String sql = "SELECT sha, message, url, committedAt FROM GitHubCommit "
+                + "WHERE login = ? AND repo = ? AND committedAt >= ? AND committedAt < ? "
+                + "ORDER BY committedAt DESC";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, login);
+            stmt.setString(2, repoFullName);
+            stmt.setLong(3, from.atStartOfDay(zone).toEpochSecond());
+            stmt.setLong(4, to.plusDays(1).atStartOfDay(zone).toEpochSecond());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Commit commit = new Commit(
+                            rs.getString("sha"),
+                            repoFullName,
+                            rs.getString("message"),
+                            rs.getString("url"),
+                            toDateTime(rs.getLong("committedAt")));
+                    if (!consumer.test(commit)) break;
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Loads the synced windows of a repository.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @return Windows sorted by start date
+     */
+    public List<CommitCache.Window> loadWindows(String repoFullName) {
+        List<CommitCache.Window> windows = new ArrayList<>();
+        if (connection == null) return windows;
+
+        String sql = "SELECT startDate, endDate FROM GitHubSyncedWindow WHERE login = ? AND repo = ? ORDER BY startDate";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, login);
+            stmt.setString(2, repoFullName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    windows.add(new CommitCache.Window(
+                            LocalDate.parse(rs.getString("startDate")),
+                            LocalDate.parse(rs.getString("endDate"))));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return windows;
+    }
+
+    /**
+     * @param repoFullName Repo full name user/repo
+     * @return Time the repository was last synced, or null if never
+     */
+    public Instant loadLastSyncedAt(String repoFullName) {
+        if (connection == null) return null;
+
+        String sql = "SELECT lastSyncedAt FROM GitHubSyncState WHERE login = ? AND repo = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, login);
+            stmt.setString(2, repoFullName);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) return Instant.ofEpochMilli(rs.getLong("lastSyncedAt"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * @return Time of the most recent sync of any repository, or null if never synced
+     */
+    public Instant loadLatestSync() {
+        if (connection == null) return null;
+
+        String sql = "SELECT MAX(lastSyncedAt) AS latest FROM GitHubSyncState WHERE login = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, login);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    long latest = rs.getLong("latest");
+                    if (!rs.wasNull()) return Instant.ofEpochMilli(latest);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Saves new commits and the resulting synced windows of a repository in one transaction.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param commits      Commits not stored yet
+     * @param windows      All synced windows of the repository
+     */
+    public void save(String repoFullName, Collection<Commit> commits, List<CommitCache.Window> windows) {
+        if (connection == null) return;
+
+        synchronized (connection) {
+            try {
+                connection.setAutoCommit(false);
+                insertCommits(repoFullName, commits);
+                replaceWindows(repoFullName, windows);
+                connection.commit();
+            } catch (SQLException e) {
+                e.printStackTrace();
+                try {
+                    connection.rollback();
+                } catch (SQLException ignored) {}
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException ignored) {}
+            }
+        }
+    }
+
+    /**
+     * Saves commits of a repository in one transaction, ignoring any already stored.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param commits      Commits to store
+     */
+    public void saveCommits(String repoFullName, Collection<Commit> commits) {
+        if (connection == null) return;
+
+        synchronized (connection) {
+            try {
+                connection.setAutoCommit(false);
+                insertCommits(repoFullName, commits);
+                connection.commit();
+            } catch (SQLException e) {
+                e.printStackTrace();
+                try {
+                    connection.rollback();
+                } catch (SQLException ignored) {}
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException ignored) {}
+            }
+        }
+    }
+
+    /**
+     * Replaces the synced windows of a repository.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param windows      All synced windows of the repository
+     */
+    public void saveWindows(String repoFullName, List<CommitCache.Window> windows) {
+        save(repoFullName, List.of(), windows);
+    }
+
+    /**
+     * Records when a repository was last synced.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @param syncedAt     Time the sync started
+     */
+    public void saveLastSyncedAt(String repoFullName, Instant syncedAt) {
+        if (connection == null) return;
+
+        String sql = "INSERT OR REPLACE INTO GitHubSyncState (login, repo, lastSyncedAt) VALUES (?, ?, ?)";
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, login);
+                stmt.setString(2, repoFullName);
+                stmt.setLong(3, syncedAt.toEpochMilli());
+                stmt.executeUpdate();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Saves the size of a commit. Commits are immutable, so stats are stored by SHA only
+     * and shared by every login and repository containing the commit.
+     *
+     * @param sha   Commit SHA
+     * @param stats Lines and files changed
+     */
+    public void saveStats(String sha, CommitStats stats) {
+        if (connection == null) return;
+
+        String sql = "INSERT OR REPLACE INTO GitHubCommitStats (sha, additions, deletions, filesChanged) VALUES (?, ?, ?, ?)";
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, sha);
+                stmt.setInt(2, stats.getAdditions());
+                stmt.setInt(3, stats.getDeletions());
+                stmt.setInt(4, stats.getFilesChanged());
+                stmt.executeUpdate();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Inserts commits, ignoring any already stored.
+     */
+    private void insertCommits(String repoFullName, Collection<Commit> commits) throws SQLException {
+        if (commits.isEmpty()) return;
+
+        String sql = "INSERT OR IGNORE INTO GitHubCommit (login, repo, sha, message, url, committedAt) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (Commit c : commits) {
+                stmt.setString(1, login);
+                stmt.setString(2, repoFullName);
+                stmt.setString(3, c.getSha());
+                stmt.setString(4, c.getMessage());
+                stmt.setString(5, c.getUrl());
+                stmt.setLong(6, c.getCommittedAt().atZone(ZoneId.systemDefault()).toEpochSecond());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Replaces the stored windows of a repository.
+     */
+    private void replaceWindows(String repoFullName, List<CommitCache.Window> windows) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(
+                     "DELETE FROM GitHubSyncedWindow WHERE login = ? AND repo = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO GitHubSyncedWindow (login, repo, startDate, endDate) VALUES (?, ?, ?, ?)")) {
+            delete.setString(1, login);
+            delete.setString(2, repoFullName);
+            delete.executeUpdate();
+
+            for (CommitCache.Window w : windows) {
+                insert.setString(1, login);
+                insert.setString(2, repoFullName);
+                insert.setString(3, w.start.toString());
+                insert.setString(4, w.end.toString());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Creates the commit tables if they do not exist yet.
+     */
+    private void createTables() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS GitHubCommit ("
+                    + "login TEXT NOT NULL, repo TEXT NOT NULL, sha TEXT NOT NULL, "
+                    + "message TEXT, url TEXT, committedAt INTEGER NOT NULL, "
+                    + "PRIMARY KEY (login, repo, sha))");
+            stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_GitHubCommit_committedAt "
+                    + "ON GitHubCommit (login, repo, committedAt)");
+            stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_GitHubCommit_login_committedAt "
+                    + "ON GitHubCommit (login, committedAt, sha)");
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS GitHubSyncedWindow ("
+                    + "login TEXT NOT NULL, repo TEXT NOT NULL, startDate TEXT NOT NULL, endDate TEXT NOT NULL)");
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS GitHubSyncState ("
+                    + "login TEXT NOT NULL, repo TEXT NOT NULL, lastSyncedAt INTEGER NOT NULL, "
+                    + "PRIMARY KEY (login, repo))");
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS GitHubCommitStats ("
+                    + "sha TEXT PRIMARY KEY, additions INTEGER NOT NULL, deletions INTEGER NOT NULL, "
+                    + "filesChanged INTEGER NOT NULL)");
+            createSearchIndex(stmt);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Creates the full-text index over commit messages, kept in sync by a trigger
+     * so every commit stored by any sync is searchable. Commits stored before the
+     * index existed are indexed once when it is created.
+     *
+     * @param stmt Statement to run the DDL with
+     * @throws SQLException If the index cannot be created
+     */
+    private void createSearchIndex(Statement stmt) throws SQLException {
+        boolean exists;
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = 'GitHubCommitSearch'")) {
+            exists = rs.next();
+        }
+        if (exists) return;
+
+        // Keys are stored alongside the message, as the commit table's implicit rowid is not stable
+        stmt.executeUpdate("CREATE VIRTUAL TABLE GitHubCommitSearch USING fts5("
+                + "message, login UNINDEXED, repo UNINDEXED, sha UNINDEXED, "
+                + "tokenize = 'unicode61 remove_diacritics 2')");
+        stmt.executeUpdate("CREATE TRIGGER IF NOT EXISTS GitHubCommit_search_insert AFTER INSERT ON GitHubCommit BEGIN "
+                + "INSERT INTO GitHubCommitSearch (message, login, repo, sha) "
+                + "VALUES (new.message, new.login, new.repo, new.sha); END");
+        stmt.executeUpdate("CREATE TRIGGER IF NOT EXISTS GitHubCommit_search_delete AFTER DELETE ON GitHubCommit BEGIN "
+                + "DELETE FROM GitHubCommitSearch WHERE login = old.login AND repo = old.repo AND sha = old.sha; END");
+        stmt.executeUpdate("INSERT INTO GitHubCommitSearch (message, login, repo, sha) "
+                + "SELECT message, login, repo, sha FROM GitHubCommit");
+    }
+
+    /**
+     * @param epochSecond Stored commit time
+     * @return Commit time in the system time zone
+     */
+    private LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.devdash.model.github;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Collects commits from a single retrieval pass.
+ * Keeps the newest commits up to one global limit across all repositories in a
+ * bounded min-heap ordered by date, so the result does not depend on which
+ * repository is fetched first: once the limit is reached, a newer commit pushes
+ * out the oldest one. Per-day histograms of commits and of lines changed, and the
+ * N most recent commits, follow the commits kept. Lines changed only cover commits
+ * whose size has been fetched, and grow as more commits are enriched.
+ * Safe to fill from several repository fetches at once.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class CommitSummary {
+
+    // Oldest first; commits at the same time are ordered by SHA so every run keeps the same ones
+    private static final Comparator<Commit> BY_DATE =
+            Comparator.comparing(Commit::getCommittedAt).thenComparing(Commit::getSha);
+
+    private final int recentLimit;
+    private final int totalLimit;
+    private final PriorityQueue<Commit> kept;
+    private final PriorityQueue<Commit> recent;
+    private final DailyCommitCounts dailyCounts = new DailyCommitCounts();
+    private final DailyCommitCounts dailyChurn = new DailyCommitCounts(true);
+    private final Set<String> counted = new HashSet<>();
+    private final Map<String, Integer> churnCounted = new HashMap<>();
+
+    /**
+     * Constructor for the summary.
+     *
+     * @param recentLimit Number of most recent commits to keep
+     * @param totalLimit  Maximum number of commits to count overall, the newest ones
+     */
+    public CommitSummary(int recentLimit, int totalLimit) {
+        this.recentLimit = recentLimit;
+        this.totalLimit = totalLimit;
+        this.kept = new PriorityQueue<>(Math.max(1, Math.min(totalLimit, 1024)), BY_DATE);
+        this.recent = new PriorityQueue<>(Math.max(1, recentLimit), BY_DATE);
+    }
+
+    /**
+     * Adds a commit to the histogram and, if recent enough, to the top-N list.
+     * Once the global limit is reached, the oldest commit kept makes way for it.
+     * Commits already counted are skipped, so synced commits can be added later.
+     *
+     * @param commit Commit to add
+     * @return False if the limit has been reached and the commit is older than every
+     *         commit kept, so callers going through commits newest first can stop
+     */
+    public synchronized boolean add(Commit commit) {
+        if (counted.contains(commit.getSha())) return true;
+        if (totalLimit <= 0) return false;
+        if (kept.size() >= totalLimit) {
+            if (BY_DATE.compare(commit, kept.peek()) <= 0) return false;
+            remove(kept.poll());
+        }
+        kept.add(commit);
+        counted.add(commit.getSha());
+
+        dailyCounts.add(commit.getCommittedDate(), 1);
+        addChurn(commit);
+
+        if (recent.size() < recentLimit) {
+            recent.add(commit);
+        } else if (recentLimit > 0 && BY_DATE.compare(commit, recent.peek()) > 0) {
+            recent.poll();
+            recent.add(commit);
+        }
+        return true;
+    }
+
+    /**
+     * Takes a commit pushed out by a newer one back out of the histograms.
+     */
+    private void remove(Commit commit) {
+        counted.remove(commit.getSha());
+        recent.remove(commit);
+        dailyCounts.add(commit.getCommittedDate(), -1);
+        Integer churn = churnCounted.remove(commit.getSha());
+        if (churn != null) dailyChurn.add(commit.getCommittedDate(), -churn);
+    }
+
+    /**
+     * Adds the lines changed of a commit enriched after it was counted.
+     *
+     * @param commit Commit that has just received its stats
+     * @return True if the commit belongs to this summary and was not counted before
+     */
+    public synchronized boolean addStats(Commit commit) {
+        return counted.contains(commit.getSha()) && addChurn(commit);
+    }
+
+    /**
+     * Adds a commit's lines changed to the churn histogram, at most once.
+     */
+    private boolean addChurn(Commit commit) {
+        CommitStats stats = commit.getStats();
+        if (stats == null || churnCounted.putIfAbsent(commit.getSha(), stats.getLinesChanged()) != null) return false;
+        dailyChurn.add(commit.getCommittedDate(), stats.getLinesChanged());
+        return true;
+    }
+
+    /**
+     * @param committedAt Time of a commit not added yet
+     * @return True if a commit from that time would be kept, i.e. the limit has not been
+     *         reached or the commit is newer than the oldest one kept
+     */
+    public synchronized boolean wouldKeep(LocalDateTime committedAt) {
+        return kept.size() < totalLimit || committedAt.isAfter(kept.peek().getCommittedAt());
+    }
+
+    /**
+     * @return True if the global limit has been reached
+     */
+    public synchronized boolean isFull() {
+        return kept.size() >= totalLimit;
+    }
+
+    /**
+     * @return Maximum number of commits counted overall
+     */
+    public int getTotalLimit() {
+        return totalLimit;
+    }
+
+    /**
+     * @return Number of commits counted so far
+     */
+    public synchronized int getTotal() {
+        return kept.size();
+    }
+
+    /**
+     * Returns the most recent commits, newest first.
+     *
+     * @return List of Commit objects
+     */
+    public synchronized List<Commit> getRecentCommits() {
+        List<Commit> commits = new ArrayList<>(recent);
+        commits.sort(BY_DATE.reversed());
+        return commits;
+    }
+
+    /**
+     * Returns a copy of the per-day histogram.
+     *
+     * @return DailyCommitCounts of the commits counted so far
+     */
+    public synchronized DailyCommitCounts getDailyCounts() {
+        return dailyCounts.copy();
+    }
+
+    /**
+     * Returns a copy of the per-day lines changed histogram.
+     *
+     * @return DailyCommitCounts of lines changed by the enriched commits
+     */
+    public synchronized DailyCommitCounts getDailyChurn() {
+        return dailyChurn.copy();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.devdash.model.github;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact per-day commit counts, grouped by year.
+ * Each year holds an int[366] indexed by day-of-year offset, with running
+ * totals and max, so looking up a year is O(1) and reading a day never boxes.
+ * Counts can also hold other per-day values such as lines changed, in which
+ * case colour levels are scaled to the busiest day of the year.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class DailyCommitCounts {
+
+    private final Map<Integer, YearCounts> years = new HashMap<>();
+    private final boolean scaled;
+
+    /**
+     * Constructor for commit counts, where each commit is its own colour level.
+     */
+    public DailyCommitCounts() {
+        this(false);
+    }
+
+    /**
+     * Constructor for per-day values.
+     *
+     * @param scaled True to scale colour levels to the year's maximum instead of capping at four
+     */
+    public DailyCommitCounts(boolean scaled) {
+        this.scaled = scaled;
+    }
+
+    /**
+     * Commit counts for every day of a single year.
+     */
+    public static final class YearCounts {
+        private final int year;
+        private final boolean scaled;
+        private final long firstEpochDay;
+        private final int length;
+        private final int[] counts = new int[366];
+        private int total;
+        private int max;
+        private byte[] levels; // colour levels 0-4, computed once after the last change
+
+        private YearCounts(int year, boolean scaled) {
+            LocalDate firstDay = LocalDate.of(year, 1, 1);
+            this.year = year;
+            this.scaled = scaled;
+            this.firstEpochDay = firstDay.toEpochDay();
+            this.length = firstDay.lengthOfYear();
+        }
+
+        private YearCounts(YearCounts other) {
+            this.year = other.year;
+            this.scaled = other.scaled;
+            this.firstEpochDay = other.firstEpochDay;
+            this.length = other.length;
+            System.arraycopy(other.counts, 0, this.counts, 0, counts.length);
+            this.total = other.total;
+            this.max = other.max;
+            this.levels = other.levels;
+        }
+
+        private void add(int dayIndex, int count) {
+            int before = counts[dayIndex];
+            counts[dayIndex] += count;
+            total += count;
+            if (counts[dayIndex] > max) max = counts[dayIndex];
+            else if (count < 0 && before == max) max = Arrays.stream(counts).max().orElse(0);
+            levels = null;
+        }
+
+        /**
+         * @return The year these counts belong to
+         */
+        public int getYear() {
+            return year;
+        }
+
+        /**
+         * @return Number of days in the year
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * @param dayIndex Offset from 1 January, starting at 0
+         * @return Number of commits on that day
+         */
+        public int get(int dayIndex) {
+            return dayIndex >= 0 && dayIndex < length ? counts[dayIndex] : 0;
+        }
+
+        /**
+         * @param date Date within the year
+         * @return Number of commits on that day
+         */
+        public int get(LocalDate date) {
+            return get((int) (date.toEpochDay() - firstEpochDay));
+        }
+
+        /**
+         * @return Total number of commits in the year
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * @return Highest number of commits on a single day
+         */
+        public int getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the colour level of a day: 0 for no commits, then 1 to 4
+         * for one, two, three and four or more commits. Scaled counts use
+         * quarters of the year's maximum instead.
+         *
+         * @param dayIndex Offset from 1 January, starting at 0
+         * @return Colour level from 0 to 4
+         */
+        public int getLevel(int dayIndex) {
+            if (dayIndex < 0 || dayIndex >= length) return 0;
+            if (levels == null) {
+                byte[] computed = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    int level = scaled ? (int) Math.ceil(4.0 * counts[i] / Math.max(1, max)) : counts[i];
+                    computed[i] = (byte) Math.min(level, 4);
+                }
+                levels = computed;
+            }
+            return levels[dayIndex];
+        }
+    }
+
+    /**
+     * Adds commits to a day.
+     *
+     * @param date  Commit day
+     * @param count Number of commits to add, negative to take commits away
+     */
+    public void add(LocalDate date, int count) {
+        YearCounts counts = years.computeIfAbsent(date.getYear(), year -> new YearCounts(year, scaled));
+        counts.add(date.getDayOfYear() - 1, count);
+    }
+
+    /**
+     * Returns the counts for a year.
+     *
+     * @param year The year
+     * @return YearCounts for the year, or null if it has no commits
+     */
+    public YearCounts getYear(int year) {
+        return years.get(year);
+    }
+
+    /**
+     * @param date A day
+     * @return Number of commits on that day
+     */
+    public int get(LocalDate date) {
+        YearCounts counts = years.get(date.getYear());
+        return counts == null ? 0 : counts.get(date);
+    }
+
+    /**
+     * @return True if no commits have been counted
+     */
+    public boolean isEmpty() {
+        return years.isEmpty();
+    }
+
+    /**
+     * @return An independent copy of these counts
+     */
+    public DailyCommitCounts copy() {
+        DailyCommitCounts copy = new DailyCommitCounts(scaled);
+        years.forEach((year, counts) -> copy.years.put(year, new YearCounts(counts)));
+        return copy;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.devdash.model.github;
+
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.*;
+import java.util.HexFormat;
+
+/**
+ * Model class for the GitHub login last validated for each user.
+ * Only a fingerprint of the access token is stored, so a cached login is
+ * used only while the user still has the same token.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class GitHubAccountModel {
+
+    private final Connection connection;
+
+    /**
+     * Constructor creates the account table if needed.
+     */
+    public GitHubAccountModel() {
+        connection = SqliteConnection.Connector();
+        createTable();
+    }
+
+    /**
+     * Returns the login last validated for the user's current token.
+     *
+     * @param userID      User ID
+     * @param accessToken GitHub PAT currently stored for the user
+     * @return Cached GitHub login, or null if none matches the token
+     */
+    public String getCachedLogin(int userID, String accessToken) {
+        if (connection == null || accessToken == null) return null;
+
+        String sql = "SELECT login FROM GitHubAccount WHERE userId = ? AND tokenFingerprint = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            stmt.setString(2, fingerprint(accessToken));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) return rs.getString("login");
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Saves the login GitHub returned for the user's token.
+     *
+     * @param userID      User ID
+     * @param accessToken GitHub PAT that was validated
+     * @param login       GitHub login the token belongs to
+     */
+    public void saveLogin(int userID, String accessToken, String login) {
+        if (connection == null) return;
+
+        String sql = "INSERT OR REPLACE INTO GitHubAccount (userId, login, tokenFingerprint, validatedAt) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            stmt.setString(2, login);
+            stmt.setString(3, fingerprint(accessToken));
+            stmt.setLong(4, System.currentTimeMillis());
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Removes the cached login for the user.
+     *
+     * @param userID User ID
+     */
+    public void clear(int userID) {
+        if (connection == null) return;
+
+        String sql = "DELETE FROM GitHubAccount WHERE userId = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Creates the account table if it does not exist yet.
+     */
+    private void createTable() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS GitHubAccount ("
+                    + "userId INTEGER PRIMARY KEY, login TEXT NOT NULL, "
+                    + "tokenFingerprint TEXT NOT NULL, validatedAt INTEGER)");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @param accessToken GitHub PAT
+     * @return Hex SHA-256 prefix identifying the token without revealing it
+     */
+    private static String fingerprint(String accessToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.devdash.model.github;
+
+import org.kohsuke.github.GHException;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.HttpException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs per-repository GitHub requests concurrently on virtual threads.
+ * A bounded permit pool limits how many repositories are fetched at once,
+ * the remaining core quota is read from the rate limit endpoint to pace
+ * requests, and rate limits pause every worker for as long as GitHub asks
+ * (Retry-After or the quota reset), or with exponential backoff if it does not say.
+ * Workers wait out pauses without holding a permit. A 403 without rate limit
+ * headers, such as a permission or SSO denial, fails only its own repository.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class GitHubFetchScheduler {
+
+    private static final int MAX_CONCURRENT_REPOS = 6;
+    private static final int LOW_QUOTA_THRESHOLD = 200;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 60_000;
+
+    private final GitHub github;
+    private final Semaphore permits = new Semaphore(MAX_CONCURRENT_REPOS);
+    private final AtomicLong pausedUntil = new AtomicLong();
+
+    /**
+     * A unit of work run against a single repository.
+     *
+     * @param <T> Result type of the fetch
+     */
+    @FunctionalInterface
+    public interface RepoFetch<T> {
+        T fetch(String repoFullName) throws IOException;
+    }
+
+    /**
+     * Constructor for the scheduler.
+     *
+     * @param github Connected GitHub client whose rate limit is observed
+     */
+    public GitHubFetchScheduler(GitHub github) {
+        this.github = github;
+    }
+
+    /**
+     * Runs the fetch for every repository concurrently and hands each result
+     * to the callback as soon as that repository completes.
+     * The callback may be invoked from several threads at once.
+     *
+     * @param repos      Full names of the repositories to fetch
+     * @param fetch      Work to run for each repository
+     * @param onRepoDone Callback receiving each repository name and its result
+     * @param <T>        Result type of the fetch
+     * @throws IOException If any repository fails after all retries
+     */
+    public <T> void fetchAll(Collection<String> repos,
+                             RepoFetch<T> fetch,
+                             BiConsumer<String, T> onRepoDone) throws IOException {
+        IOException failure = null;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String repo : repos) {
+                futures.add(executor.submit(() -> {
+                    T result = fetchThrottled(repo, fetch);
+                    onRepoDone.accept(repo, result);
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) failure = asIOException(e.getCause());
+                    else failure.addSuppressed(e.getCause());
+                } catch (InterruptedException e) {
+                    futures.forEach(f -> f.cancel(true));
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Repository fetch interrupted", e);
+                }
+            }
+        }
+
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Runs a single request against a repository, sharing the permits,
+     * quota pacing and backoff of the concurrent fetches.
+     *
+     * @param repo  Full name of the repository
+     * @param fetch Work to run
+     * @param <T>   Result type of the fetch
+     * @return Result of the fetch
+     * @throws IOException If the fetch keeps failing or is interrupted
+     */
+    public <T> T fetch(String repo, RepoFetch<T> fetch) throws IOException {
+        try {
+            return fetchThrottled(repo, fetch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Repository fetch interrupted");
+        }
+    }
+
+    /**
+     * Fetches a single repository while holding a permit, waiting for quota
+     * beforehand and retrying after a pause when a rate limit is hit.
+     *
+     * @param repo  Full name of the repository to fetch
+     * @param fetch Work to run
+     * @return Result of the fetch
+     * @throws IOException          If the fetch keeps failing
+     * @throws InterruptedException If the worker is interrupted while waiting
+     */
+    private <T> T fetchThrottled(String repo, RepoFetch<T> fetch) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            awaitQuota();
+            permits.acquire();
+            try {
+                return fetch.fetch(repo);
+            } catch (IOException | GHException e) {
+                HttpException http = findHttpException(e);
+                long wait = http == null ? -1 : rateLimitWaitMillis(http, attempt);
+                if (wait < 0 || attempt >= MAX_ATTEMPTS) throw asIOException(e);
+                pauseAll(wait);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Blocks while a shared pause is active, then paces requests when the
+     * remaining core quota is running low.
+     * Called without holding a permit, as the wait can last until the quota resets.
+     *
+     * @throws IOException          If the rate limit cannot be read
+     * @throws InterruptedException If interrupted while sleeping
+     */
+    private void awaitQuota() throws IOException, InterruptedException {
+        long pause = pausedUntil.get() - System.currentTimeMillis();
+        if (pause > 0) Thread.sleep(pause);
+
+        // Cached briefly by the client, and /rate_limit itself costs no quota
+        GHRateLimit.Record core = github.getRateLimit().getCore();
+        int remaining = core.getRemaining();
+        if (remaining >= LOW_QUOTA_THRESHOLD) return;
+
+        long untilReset = core.getResetDate().getTime() - System.currentTimeMillis();
+        if (untilReset <= 0) return;
+
+        // Spread what is left of the quota evenly over the time until it resets
+        long delay = remaining <= 0 ? untilReset : untilReset / remaining;
+        Thread.sleep(Math.min(delay, untilReset));
+    }
+
+    /**
+     * Pushes the shared pause deadline forward so every worker backs off.
+     *
+     * @param millis Backoff duration
+     */
+    private void pauseAll(long millis) {
+        long until = System.currentTimeMillis() + millis;
+        pausedUntil.accumulateAndGet(until, Math::max);
+    }
+
+    /**
+     * @param attempt Attempt number starting at 1
+     * @return Exponential backoff delay for the attempt
+     */
+    private long backoffMillis(int attempt) {
+        return Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << (attempt - 1));
+    }
+
+    /**
+     * Works out how long to wait before retrying a request that GitHub refused.
+     * A 429 is always a rate limit; a 403 only when the quota is used up or GitHub
+     * sends Retry-After, as it also means the token may not access the repository.
+     *
+     * @param e       HTTP error returned by GitHub
+     * @param attempt Attempt number starting at 1
+     * @return Milliseconds to pause every worker for, or -1 if the error is not a rate limit
+     */
+    private long rateLimitWaitMillis(HttpException e, int attempt) {
+        String retryAfter = header(e, "Retry-After");
+        boolean exhausted = "0".equals(header(e, "X-RateLimit-Remaining"));
+        if (e.getResponseCode() != 429 && !(e.getResponseCode() == 403 && (retryAfter != null || exhausted))) {
+            return -1;
+        }
+
+        try {
+            if (retryAfter != null) return Long.parseLong(retryAfter.trim()) * 1000;
+            String reset = header(e, "X-RateLimit-Reset");
+            if (exhausted && reset != null) {
+                return Math.max(0, Long.parseLong(reset.trim()) * 1000 - System.currentTimeMillis());
+            }
+        } catch (NumberFormatException ignored) {}
+        return backoffMillis(attempt);
+    }
+
+    /**
+     * @param e    HTTP error returned by GitHub
+     * @param name Header name, matched ignoring case
+     * @return First value of the response header, or null if it is missing
+     */
+    private String header(HttpException e, String name) {
+        Map<String, List<String>> headers = e.getResponseHeaderFields();
+        if (headers == null) return null;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walks the cause chain looking for the HTTP error behind a failure.
+     *
+     * @param e Failure thrown while fetching
+     * @return The HttpException or null if there is none
+     */
+    private HttpException findHttpException(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof HttpException http) return http;
+        }
+        return null;
+    }
+
+    /**
+     * @param e Any failure
+     * @return The failure as an IOException
+     */
+    private IOException asIOException(Throwable e) {
+        return e instanceof IOException io ? io : new IOException(e);
+    }
+}
@@ -3,10 +3,18 @@ package com.example.devdash.model.github;
 import org.kohsuke.github.*;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Service class responsible for communicating with the GitHub API.
@@ -14,165 +22,526 @@ import java.util.*;
  * and commit statistics for a user.
  *
  * Author: Alexander Sukhin
- * Version: 24/08/2025
+ * Version: 19/10/2026
  */
-public class GitHubService {
+public class GitHubService implements CommitSource {
 
     private final GitHub github;
-    private final String ghUsername;
+    private final GitHubFetchScheduler fetchScheduler;
+    private final CommitEnricher enricher = new CommitEnricher(this::fetchStats);
+    private final Map<String, GHRepository> liveRepositories = new ConcurrentHashMap<>();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final String apiUrl;
+    private final String accessToken;
+    private volatile String ghUsername;
+    private volatile boolean connected;
+    private volatile RepositoryCache repositoryCache;
+    private volatile CommitCache commitCache = new CommitCache();
+
+    public static final String DEFAULT_API_URL = "https://api.github.com";
+    public static final String API_URL_PROPERTY = "devdash.github.api";
+
+    // A background sync only catches up on recent pushes, so it stops well short of a full history
+    private static final int SYNC_COMMITS_LIMIT = 500;
+
+    // Commits made locally and pushed later keep their commit date, so a push can add
+    // commits dated before the last sync. Days this close to it are fetched again.
+    private static final int UNPUSHED_COMMIT_SLACK_DAYS = 7;
 
     /**
-     * Constructor that sets up the GitHub API client.
-     * If a Personal Access Token (PAT) is provided, it authenticates with it.
+     * Constructor that sets up the GitHub API client against the default API URL.
+     * The URL can be overridden with the devdash.github.api system property.
+     * No request is made until connect() is called.
      *
      * @param accessToken GitHub Personal Access Token (PAT), can be null for anonymous access.
-     * @throws IOException If authentication or connection to GitHub fails.
+     * @throws IOException If the client cannot be created.
      */
     public GitHubService(String accessToken) throws IOException {
-        if (accessToken != null && !accessToken.isBlank()) {
-            github = GitHub.connectUsingOAuth(accessToken);
-            ghUsername = github.getMyself().getLogin();
-        }  else {
-            this.github = GitHub.connectAnonymously();
-            this.ghUsername = null; // anonymous mode
-        }
+        this(accessToken, System.getProperty(API_URL_PROPERTY, DEFAULT_API_URL));
     }
 
+    /**
+     * Constructor that sets up the GitHub API client against the given API URL.
+     * If a Personal Access Token (PAT) is provided, it authenticates with it.
+     * No request is made until connect() is called.
+     *
+     * @param accessToken GitHub Personal Access Token (PAT), can be null for anonymous access.
+     * @param apiUrl      Base URL of the GitHub REST API
+     * @throws IOException If the client cannot be created.
+     */
+    public GitHubService(String accessToken, String apiUrl) throws IOException {
+        // Rate limits are handled by the fetch scheduler instead of blocking inside the client
+        GitHubBuilder builder = new GitHubBuilder()
+                .withEndpoint(apiUrl)
+                .withRateLimitHandler(GitHubRateLimitHandler.FAIL)
+                .withAbuseLimitHandler(GitHubAbuseLimitHandler.FAIL);
+
+        boolean hasToken = accessToken != null && !accessToken.isBlank();
+        this.github = hasToken ? builder.withOAuthToken(accessToken).build() : builder.build();
+        this.apiUrl = apiUrl;
+        this.accessToken = hasToken ? accessToken : null;
+        this.fetchScheduler = new GitHubFetchScheduler(github);
+    }
 
     /**
-     * Internal method to fetch  GH commits from GitHub repositories
-     * Commits are filtered by date range and limited by limit.
+     * Opens the local caches of a previously validated login, so repositories
+     * and commits can be served from disk before connect() succeeds.
      *
-     * @param repoFullName Repo full name user/repo
-     * @param start        Start date. Can be null
-     * @param end          End date. Can be null
-     * @param limit        Maximum number of commits to fetch.
-     * @return List of GHCommit objects.
-     * @throws IOException If repository access fails.
+     * @param login GitHub login last validated for the token
+     */
+    public synchronized void openCached(String login) {
+        if (login == null || login.equals(ghUsername)) return;
+        openCaches(login);
+    }
+
+    /**
+     * Validates the token by fetching the authenticated user's login.
+     * This is a network round-trip and must not run on the JavaFX thread.
+     * Makes no request in anonymous mode.
+     *
+     * @return The validated GitHub login, or null in anonymous mode
+     * @throws IOException If the token is rejected or GitHub cannot be reached.
      */
-    private List<GHCommit> retrieveCommits(String repoFullName,
-                                           LocalDate start,
-                                           LocalDate end, int limit) throws IOException {
-        Collection<GHRepository> repos = (repoFullName == null || repoFullName.isBlank())
-                ? getRepositories().values()
-                : Collections.singletonList(github.getRepository(repoFullName));
+    public String connect() throws IOException {
+        if (accessToken == null) {
+            connected = true;
+            return null;
+        }
 
+        String login = github.getMyself().getLogin();
+        synchronized (this) {
+            if (!login.equals(ghUsername)) openCaches(login);
+            connected = true;
+        }
+        return login;
+    }
 
-        List<GHCommit> results = new ArrayList<>();
-        for (GHRepository repo : repos) {
-            for (GHCommit c : repo.listCommits()) {
-                if (results.size() >= limit) break;
+    /**
+     * @return True if connect() has validated the token
+     */
+    public boolean isConnected() {
+        return connected;
+    }
 
-                try {
-                    LocalDate date = toLocalDate(c);
+    /**
+     * @return Time of the most recent sync of any repository, or null if never synced
+     */
+    @Override
+    public Instant getLastSyncedAt() {
+        return commitCache.getLatestSync();
+    }
 
-                    boolean inRange = (start == null || !date.isBefore(start))
-                            && (end == null || !date.isAfter(end));
+    /**
+     * Switches the repository and commit caches to those of the given login.
+     *
+     * @param login GitHub login
+     */
+    private void openCaches(String login) {
+        repositoryCache = new RepositoryCache(login);
+        commitCache = new CommitCache(new CommitStore(login));
+        ghUsername = login;
+    }
 
-                    if (inRange) results.add(c);
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+    /**
+     * Checks whether a failure means GitHub rejected the access token,
+     * as opposed to a network problem worth retrying.
+     *
+     * @param e Failure thrown by a GitHub request
+     * @return True if the token is invalid or revoked
+     */
+    public static boolean isUnauthorized(IOException e) {
+        return e instanceof HttpException http && http.getResponseCode() == 401;
+    }
+
+    /**
+     * Retrieves commits in a single pass over the commit pages, filling both the
+     * most recent commits list and the per-day histogram. The limit keeps the newest
+     * commits across all repositories. When every repository is selected, repositories are fetched
+     * concurrently and onRepoFetched is called as each one completes.
+     *
+     * @param repoFullName  Repo full name user/repo. Can be null
+     * @param start         Start date. Can be null
+     * @param end           End date. Can be null
+     * @param recentLimit   Number of most recent commits to keep
+     * @param totalLimit    Maximum number of commits to retrieve overall
+     * @param onRepoFetched Receives the summary so far after each repository. Can be null
+     * @return CommitSummary holding recent commits and daily counts
+     * @throws IOException If GitHub API access fails.
+     */
+    public CommitSummary fetchCommitSummary(String repoFullName, LocalDate start, LocalDate end,
+                                            int recentLimit, int totalLimit,
+                                            Consumer<CommitSummary> onRepoFetched) throws IOException {
+        CommitSummary summary = new CommitSummary(recentLimit, totalLimit);
+        collectCommits(repoFullName, start, end, summary, onRepoFetched);
+        return summary;
+    }
+
+    /**
+     * Adds the commits of one or all repositories to the summary. When every
+     * repository is selected, repositories are fetched concurrently and
+     * onRepoFetched is called as each one completes.
+     *
+     * @param repoFullName  Repo full name user/repo. Can be null
+     * @param start         Start date. Can be null
+     * @param end           End date. Can be null
+     * @param summary       Summary receiving the commits
+     * @param onRepoFetched Receives the summary so far after each repository. Can be null
+     * @throws IOException If GitHub API access fails.
+     */
+    @Override
+    public void collectCommits(String repoFullName, LocalDate start, LocalDate end,
+                               CommitSummary summary, Consumer<CommitSummary> onRepoFetched) throws IOException {
+        LocalDate today = LocalDate.now();
+        LocalDate from = start != null ? start : EARLIEST_COMMIT_DATE;
+        LocalDate to = (end != null && end.isBefore(today)) ? end : today;
+        boolean single = repoFullName != null && !repoFullName.isBlank();
+        List<String> repos = single ? List.of(repoFullName) : listRepositoryNames();
+
+        // Cached commits of every repository go in first, so paging can stop as soon as it only finds older ones
+        for (String repo : repos) {
+            for (Commit commit : commitCache.getCommits(repo, from, to)) {
+                if (!summary.add(commit)) break;
             }
         }
-        return results;
+
+        if (single) {
+            fetchMissingCommits(repoFullName, from, to, summary);
+            if (onRepoFetched != null) onRepoFetched.accept(summary);
+            return;
+        }
+
+        fetchScheduler.fetchAll(repos,
+                repo -> {
+                    fetchMissingCommits(repo, from, to, summary);
+                    return summary;
+                },
+                (repo, result) -> {
+                    if (onRepoFetched != null) onRepoFetched.accept(result);
+                });
     }
 
     /**
-     * Converts GHCommit objects into Commit objects
+     * Streams the commits of a single repository that are not cached yet into the summary.
+     * Only the parts of the range not yet synced are requested, with the date bounds and
+     * author pushed to the API. A repository that has not been pushed to since its last sync
+     * needs no requests at all, and neither does one with nothing newer than the commits a
+     * full summary already keeps. Offline, only the cached commits are served.
      *
-     * @param commits List of GHCommit objects.
-     * @return List of Commit objects.
+     * @param repoFullName Repo full name user/repo
+     * @param from         First day of the range
+     * @param to           Last day of the range, no later than today
+     * @param summary      Summary receiving the commits
+     * @throws IOException If GitHub API access fails.
      */
-    private List<Commit> toCommits(List<GHCommit> commits) {
-        List<Commit> results = new ArrayList<>();
-        for (GHCommit c : commits) {
-            try {
-                results.add(new Commit(
-                        c.getSHA1(),
-                        c.getCommitShortInfo().getMessage(),
-                        c.getHtmlUrl().toString(),
-                        LocalDateTime.ofInstant(c.getCommitDate().toInstant(), ZoneId.systemDefault())
-                ));
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+    private void fetchMissingCommits(String repoFullName, LocalDate from, LocalDate to, CommitSummary summary) throws IOException {
+        if (connected && mayAddCommits(repoFullName, to, summary)) {
+            syncRepoCommits(repoFullName, from, to, summary.getTotalLimit(), summary);
         }
-        return results;
     }
 
     /**
-     * Aggregates GHCommit objects into daily commit counts.
+     * Checks whether syncing a repository could still change the summary. Once the summary
+     * is full, a repository can only add commits newer than the oldest one kept, and it
+     * has none if it was last pushed to, or the range ends, before that commit.
      *
-     * @param commits List of GHCommit objects
-     * @return Map of commit counts per LocalDate
+     * @param repoFullName Repo full name user/repo
+     * @param to           Last day of the range
+     * @param summary      Summary receiving the commits
+     * @return False if no commit of the repository in the range would be kept
      */
-    private Map<LocalDate, Integer> toDailyCounts(List<GHCommit> commits) {
-        Map<LocalDate, Integer> counts = new HashMap<>();
-        for (GHCommit c : commits) {
-            try {
-                LocalDate date = toLocalDate(c);
-                counts.put(date, counts.getOrDefault(date, 0) + 1);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+    private boolean mayAddCommits(String repoFullName, LocalDate to, CommitSummary summary) {
+        if (!summary.isFull()) return true;
+
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime latest = to.plusDays(1).atStartOfDay();
+        RepositoryCache repoCache = repositoryCache;
+        Instant pushedAt = repoCache != null ? repoCache.getPushedAt(repoFullName) : null;
+        if (pushedAt != null && LocalDateTime.ofInstant(pushedAt, zone).isBefore(latest)) {
+            latest = LocalDateTime.ofInstant(pushedAt, zone);
         }
-        return counts;
+        return summary.wouldKeep(latest);
     }
 
+    /**
+     * Syncs commits pushed to a repository since its last sync, for the background sync.
+     * Repositories that have never been synced are left to the first fetch of their history.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @return Commits that were not stored before, or an empty list if offline
+     * @throws IOException If GitHub API access fails.
+     */
+    public List<Commit> syncRepository(String repoFullName) throws IOException {
+        if (!connected) return Collections.emptyList();
+
+        Instant lastSynced = commitCache.getLastSyncedAt(repoFullName);
+        if (lastSynced == null) return Collections.emptyList();
+
+        LocalDate from = resyncFrom(lastSynced);
+        return fetchScheduler.fetch(repoFullName,
+                repo -> syncRepoCommits(repo, from, LocalDate.now(), SYNC_COMMITS_LIMIT, null));
+    }
 
     /**
-     * Fetches detailed commits
+     * Fetches the parts of the date range not yet synced into the commit cache, newest first.
+     * Paging stops at the limit, or at the first commit the summary would not keep, and the
+     * days after that commit are recorded as synced, so the next fetch continues below them.
+     * Windows older than every commit a full summary keeps are not requested at all.
      *
-     * @param repoFullName Repo full name user/repo. Can be null
-     * @param start        Start date. Can be null
-     * @param end          End date. Can be null
-     * @param limit        Maximum number of commits to fetch.
-     * @return List of Commit objects.
+     * @param repoFullName Repo full name user/repo
+     * @param from         First day of the range
+     * @param to           Last day of the range
+     * @param limit        Maximum number of commits fetched per missing window
+     * @param summary      Summary receiving the fetched commits as they arrive, or null
+     * @return Commits that were not cached before
      * @throws IOException If GitHub API access fails.
      */
-    public List<Commit> fetchCommits(String repoFullName, LocalDate start, LocalDate end, int limit) throws IOException {
-        return toCommits(retrieveCommits(repoFullName, start, end, limit));
+    private List<Commit> syncRepoCommits(String repoFullName, LocalDate from, LocalDate to, int limit,
+                                         CommitSummary summary) throws IOException {
+        Instant syncStart = Instant.now();
+        CommitCache cache = commitCache;
+
+        // Recent windows are only trusted while the repository has not been pushed to since
+        Instant lastSynced = cache.getLastSyncedAt(repoFullName);
+        if (lastSynced != null && hasPushedSince(repoFullName, lastSynced)) {
+            cache.invalidateFrom(repoFullName, resyncFrom(lastSynced));
+        }
+
+        List<CommitCache.Window> gaps = cache.missingWindows(repoFullName, from, to);
+        GHRepository repo = gaps.isEmpty() ? null : getRepository(repoFullName);
+        List<Commit> added = new ArrayList<>();
+
+        for (CommitCache.Window gap : gaps) {
+            if (summary != null && !summary.wouldKeep(gap.end.plusDays(1).atStartOfDay())) continue;
+            List<Commit> fetched = new ArrayList<>();
+            CommitCache.Window synced = gap;
+
+            for (GHCommit c : queryCommits(repo, gap)) {
+                if (Thread.currentThread().isInterrupted()) throw new InterruptedIOException("Commit fetch cancelled");
+                Commit commit = toCommit(repoFullName, c);
+                if (fetched.size() >= limit || (summary != null && !summary.add(commit))) {
+                    // Every commit after the first one left out has been fetched, but
+                    // that commit's own day may have older ones still to fetch
+                    synced = new CommitCache.Window(commit.getCommittedDate().plusDays(1), gap.end);
+                    break;
+                }
+                fetched.add(commit);
+            }
+
+            added.addAll(cache.store(repoFullName, fetched, synced));
+        }
+        cache.markRepoSynced(repoFullName, syncStart);
+        return added;
+    }
+
+    /**
+     * @param lastSynced Time of the last sync
+     * @return First day to fetch again after a push, early enough to catch commits
+     *         made before the last sync but pushed after it
+     */
+    private static LocalDate resyncFrom(Instant lastSynced) {
+        return lastSynced.atZone(ZoneId.systemDefault()).toLocalDate().minusDays(UNPUSHED_COMMIT_SLACK_DAYS);
+    }
+
+    /**
+     * @param repoFullName Repo full name user/repo
+     * @param since        Time of the last sync
+     * @return True unless the repository listing shows no push since then
+     */
+    private boolean hasPushedSince(String repoFullName, Instant since) {
+        RepositoryCache repoCache = repositoryCache;
+        Instant pushedAt = repoCache != null ? repoCache.getPushedAt(repoFullName) : null;
+        return pushedAt == null || pushedAt.isAfter(since);
     }
 
+    /**
+     * Lists the repositories pushed to since they were last synced, most recently pushed first.
+     * The listing is always revalidated, which costs no quota while nothing has changed.
+     *
+     * @return Repository full names
+     * @throws IOException If repository access fails.
+     */
+    public List<String> listChangedRepositories() throws IOException {
+        List<String> changed = new ArrayList<>();
+        for (String repo : listRepositoryNames(true)) {
+            Instant lastSynced = commitCache.getLastSyncedAt(repo);
+            if (lastSynced != null && hasPushedSince(repo, lastSynced)) changed.add(repo);
+        }
+        return changed;
+    }
 
     /**
-     * Fetches aggregated daily commit counts
+     * Fetches lines and files changed for the given commits in the background,
+     * most visible first, replacing any previous request. Stats are stored
+     * permanently, so each commit is only ever fetched once. Does nothing offline.
      *
-     * @param repoFullName Repo full name user/repo. Can be null
-     * @param start        Start date. Can be null
-     * @param end          End date. Can be null
-     * @param limit        Maximum number of commits to fetch.
-     * @return List of Commit objects.
+     * @param commits    Commits ordered by visibility, most visible first
+     * @param onEnriched Called from a background thread as each commit gets its stats
+     */
+    public void enrichCommits(List<Commit> commits, Consumer<Commit> onEnriched) {
+        if (!connected) return;
+        enricher.request(commits, onEnriched);
+    }
+
+    /**
+     * Stops fetching stats for commits that have not been started yet.
+     */
+    public void cancelEnrichment() {
+        enricher.cancel();
+    }
+
+    /**
+     * Fetches a single commit to read its size, then stores and attaches the stats.
+     *
+     * @param commit Commit to enrich
+     * @return Lines and files changed
      * @throws IOException If GitHub API access fails.
      */
-    public Map<LocalDate, Integer> fetchDailyCommitCounts(String repoFullName, LocalDate start, LocalDate end, int limit) throws IOException {
-        return toDailyCounts(retrieveCommits(repoFullName, start, end, limit));
+    private CommitStats fetchStats(Commit commit) throws IOException {
+        CommitStats stats = fetchScheduler.fetch(commit.getRepoFullName(), repo -> {
+            GHCommit detail = getRepository(repo).getCommit(commit.getSha());
+            // getFiles() only holds the first page of files, so large commits are paged through
+            int files = 0;
+            for (GHCommit.File ignored : detail.listFiles()) files++;
+            return new CommitStats(detail.getLinesAdded(), detail.getLinesDeleted(), files);
+        });
+        commitCache.storeStats(commit, stats);
+        return stats;
     }
 
+    /**
+     * Builds a server-side filtered commit query for a date window,
+     * limited to the linked user's commits when authenticated.
+     *
+     * @param repo   Repository to query
+     * @param window Inclusive date window
+     * @return Paged commits in the window, newest first
+     */
+    private PagedIterable<GHCommit> queryCommits(GHRepository repo, CommitCache.Window window) {
+        ZoneId zone = ZoneId.systemDefault();
+        GHCommitQueryBuilder query = repo.queryCommits()
+                .since(Date.from(window.start.atStartOfDay(zone).toInstant()))
+                .until(Date.from(window.end.plusDays(1).atStartOfDay(zone).toInstant().minusMillis(1)))
+                .pageSize(100);
+        if (ghUsername != null) query.author(ghUsername);
+        return query.list();
+    }
 
     /**
-     * Converts a GHCommit into a LocalDate.
+     * Converts a GHCommit into a Commit
      *
-     * @param commit GitHub commit
-     * @return Commit date
+     * @param repoFullName Repo full name user/repo the commit belongs to
+     * @param c GitHub commit
+     * @return Commit object
      * @throws IOException If commit metadata cannot be accessed
      */
-    private LocalDate toLocalDate(GHCommit commit) throws IOException {
-        return commit.getCommitDate()
-                .toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDate();
+    private Commit toCommit(String repoFullName, GHCommit c) throws IOException {
+        return new Commit(
+                c.getSHA1(),
+                repoFullName,
+                c.getCommitShortInfo().getMessage(),
+                c.getHtmlUrl().toString(),
+                LocalDateTime.ofInstant(c.getCommitDate().toInstant(), ZoneId.systemDefault())
+        );
     }
 
     /**
-     * @return The user's GitHub username
+     * @return The user's GitHub username, or null until connected
      */
     public String getGhUsername() {
         return ghUsername;
     }
 
 
+    /**
+     * Returns the full names of all repositories accessible to the authenticated user.
+     * Served from the repository cache while it is fresh or while offline, revalidated with a
+     * conditional request once the TTL expires, and re-listed only when GitHub
+     * reports a change.
+     *
+     * @return List of repository full names, most recently pushed first
+     * @throws IOException If repository access fails.
+     */
+    @Override
+    public List<String> listRepositoryNames() throws IOException {
+        return listRepositoryNames(false);
+    }
+
+    /**
+     * Returns the full names of all repositories accessible to the authenticated user.
+     *
+     * @param revalidate True to revalidate the listing even while it is fresh
+     * @return List of repository full names, most recently pushed first
+     * @throws IOException If repository access fails.
+     */
+    private List<String> listRepositoryNames(boolean revalidate) throws IOException {
+        RepositoryCache repoCache = repositoryCache;
+        if (repoCache == null) return Collections.emptyList();
+
+        synchronized (repoCache) {
+            if (!connected || (!revalidate && repoCache.isFresh())) return repoCache.getFullNames();
+
+            String etag = repoCache.canRevalidate() ? repoCache.getEtag() : null;
+            String newEtag = probeRepositories(etag);
+            if (newEtag == null) {
+                repoCache.markRevalidated();
+                return repoCache.getFullNames();
+            }
+
+            Map<String, GHRepository> repos = getRepositories();
+            Map<String, Instant> pushedAt = new LinkedHashMap<>();
+            repos.values().stream()
+                    .sorted(Comparator.comparing(GHRepository::getPushedAt,
+                            Comparator.nullsLast(Comparator.reverseOrder())))
+                    .forEach(r -> pushedAt.put(r.getFullName(),
+                            r.getPushedAt() != null ? r.getPushedAt().toInstant() : null));
+            repoCache.replace(pushedAt, newEtag);
+            return repoCache.getFullNames();
+        }
+    }
+
+    /**
+     * Sends a conditional request for the first page of the user's repositories,
+     * sorted by push so any push or new repository changes its ETag.
+     * A 304 response does not count against the rate limit.
+     *
+     * @param etag ETag from the last listing, or null to always fetch
+     * @return Null if unchanged, otherwise the new ETag (empty if none was sent)
+     * @throws IOException If the request fails
+     */
+    private String probeRepositories(String etag) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(apiUrl + "/user/repos?per_page=100&sort=pushed"))
+                .header("Accept", "application/vnd.github+json")
+                .header("Authorization", "token " + accessToken)
+                .GET();
+        if (etag != null && !etag.isEmpty()) request.header("If-None-Match", etag);
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 304) return null;
+            if (response.statusCode() >= 400) throw new IOException("Repository listing failed: HTTP " + response.statusCode());
+            return response.headers().firstValue("ETag").orElse("");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Repository listing interrupted");
+        }
+    }
+
+    /**
+     * Returns the live repository object, reusing the one from the last listing if available.
+     *
+     * @param repoFullName Repo full name user/repo
+     * @return GHRepository object
+     * @throws IOException If repository access fails.
+     */
+    private GHRepository getRepository(String repoFullName) throws IOException {
+        GHRepository repo = liveRepositories.get(repoFullName);
+        if (repo == null) {
+            repo = github.getRepository(repoFullName);
+            liveRepositories.put(repoFullName, repo);
+        }
+        return repo;
+    }
+
     /**
      * Fetches all repositories accessible to the authenticated user.
      *
@@ -180,7 +549,9 @@ public class GitHubService {
      * @throws IOException If repository access fails.
      */
     public Map<String, GHRepository> getRepositories() throws IOException {
-        if (github == null) return Collections.emptyMap();
-        return github.getMyself().getAllRepositories();
+        if (github == null || ghUsername == null) return Collections.emptyMap();
+        Map<String, GHRepository> repos = github.getMyself().getAllRepositories();
+        repos.values().forEach(r -> liveRepositories.put(r.getFullName(), r));
+        return repos;
     }
 }
@@ -0,0 +1,191 @@
+package com.example.devdash.model.github;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Periodically syncs the user's repositories in the background while the GitHub card is shown.
+ * Each round revalidates the repository listing, which costs no quota while nothing has
+ * been pushed, and syncs only the repositories pushed to since their last sync, most
+ * recently pushed first. Failures, including rate limits that outlast the fetch retries,
+ * back off exponentially. New commits are published per day, so the card can patch its
+ * list and heatmap instead of reloading them.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class GitHubSyncScheduler {
+
+    private static final long SYNC_INTERVAL_SECONDS = 120;
+    private static final long MAX_BACKOFF_SECONDS = 1_800;
+    private static final long BUSY_RETRY_SECONDS = 1;
+
+    private final GitHubService service;
+    private final ScheduledExecutorService scheduler;
+    private final Executor workers;
+    private final Consumer<Update> onUpdate;
+    private ScheduledFuture<?> next;
+    private boolean running;
+    private long epoch; // bumped on every start, so rounds from before a restart end quietly
+    private long delaySeconds = SYNC_INTERVAL_SECONDS;
+
+    /**
+     * New commits synced for one repository on one day.
+     */
+    public static final class Update {
+        private final String repoFullName;
+        private final LocalDate date;
+        private final List<Commit> commits;
+
+        private Update(String repoFullName, LocalDate date, List<Commit> commits) {
+            this.repoFullName = repoFullName;
+            this.date = date;
+            this.commits = commits;
+        }
+
+        public String getRepoFullName() {
+            return repoFullName;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public List<Commit> getCommits() {
+            return commits;
+        }
+
+        @Override
+        public String toString() {
+            return commits.size() + (commits.size() == 1 ? " new commit on " : " new commits on ") + date;
+        }
+    }
+
+    /**
+     * Constructor for the sync scheduler. Nothing runs until start() is called.
+     *
+     * @param service   Connected GitHub service to sync
+     * @param scheduler Shared scheduler timing the rounds
+     * @param workers   Executor running the blocking sync work
+     * @param onUpdate  Receives new commits from a background thread
+     */
+    public GitHubSyncScheduler(GitHubService service, ScheduledExecutorService scheduler,
+                               Executor workers, Consumer<Update> onUpdate) {
+        this.service = service;
+        this.scheduler = scheduler;
+        this.workers = workers;
+        this.onUpdate = onUpdate;
+    }
+
+    /**
+     * Starts syncing, the first round after one interval. Does nothing if already running.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        epoch++;
+        delaySeconds = SYNC_INTERVAL_SECONDS;
+        scheduleNext();
+    }
+
+    /**
+     * Stops syncing. A round already in progress stops after its current repository.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (next != null) next.cancel(false);
+        next = null;
+    }
+
+    /**
+     * @return True while started
+     */
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @param round Epoch the round was scheduled in
+     * @return True if the round should keep going
+     */
+    private synchronized boolean isCurrent(long round) {
+        return running && round == epoch;
+    }
+
+    /**
+     * Schedules the next round after the current delay.
+     * The scheduler thread only hands the round over to the workers.
+     */
+    private void scheduleNext() {
+        long round = epoch;
+        next = scheduler.schedule(() -> handOver(round), delaySeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Hands a round over to the workers, retrying shortly while they are too busy to take it.
+     *
+     * @param round Epoch the round was scheduled in
+     */
+    private void handOver(long round) {
+        try {
+            workers.execute(() -> runRound(round));
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                if (running && round == epoch) {
+                    next = scheduler.schedule(() -> handOver(round), BUSY_RETRY_SECONDS, TimeUnit.SECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Syncs every changed repository, then schedules the next round,
+     * backing off if the round failed.
+     *
+     * @param round Epoch the round was scheduled in
+     */
+    private void runRound(long round) {
+        if (!isCurrent(round)) return;
+
+        boolean failed = false;
+        try {
+            for (String repo : service.listChangedRepositories()) {
+                if (!isCurrent(round)) return;
+                publish(repo, service.syncRepository(repo));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            failed = true;
+        }
+
+        synchronized (this) {
+            if (!running || round != epoch) return;
+            delaySeconds = failed ? Math.min(MAX_BACKOFF_SECONDS, delaySeconds * 2) : SYNC_INTERVAL_SECONDS;
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Publishes a repository's new commits, one update per day.
+     *
+     * @param repo    Repo full name user/repo
+     * @param commits Commits not stored before
+     */
+    private void publish(String repo, List<Commit> commits) {
+        if (commits.isEmpty()) return;
+
+        Map<LocalDate, List<Commit>> byDate = new TreeMap<>();
+        for (Commit c : commits) byDate.computeIfAbsent(c.getCommittedDate(), d -> new ArrayList<>()).add(c);
+        byDate.forEach((date, dayCommits) -> onUpdate.accept(new Update(repo, date, List.copyOf(dayCommits))));
+    }
+}
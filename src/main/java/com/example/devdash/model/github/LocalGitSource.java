@@ -0,0 +1,329 @@
+package com.example.devdash.model.github;
+
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Commit source for local git clones, including repositories the GitHub API cannot see.
+ * Commits are read by streaming git log through a pipe and parsing it line by line,
+ * and are written to the commit store in batches, so ingesting a long history keeps
+ * memory flat. Each repository remembers the HEAD it was ingested up to, so later
+ * ingests only read new commits. Requires git on the PATH.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class LocalGitSource implements CommitSource {
+
+    // Stored commits of local clones are kept apart from those of any GitHub login
+    public static final String STORE_LOGIN = "local";
+    private static final int BATCH_SIZE = 2000;
+    private static final char FIELD_SEPARATOR = '\u001f';
+
+    private final Connection connection;
+    private final int userID;
+    private final CommitStore store = new CommitStore(STORE_LOGIN);
+    private final Object ingestLock = new Object();
+    private List<String> repositories;
+
+    /**
+     * Constructor creates the repository table if needed.
+     *
+     * @param userID User ID the local repositories belong to
+     */
+    public LocalGitSource(int userID) {
+        this.connection = SqliteConnection.Connector();
+        this.userID = userID;
+        createTable();
+    }
+
+    /**
+     * @param dir Directory to check
+     * @return True if the directory is the root of a git working tree
+     */
+    public static boolean isRepository(File dir) {
+        return dir != null && new File(dir, ".git").exists();
+    }
+
+    /**
+     * Adds a local clone to the user's repositories. Its commits are ingested on first use.
+     *
+     * @param path Absolute path of the working tree
+     */
+    public void addRepository(String path) {
+        if (connection == null) return;
+
+        String sql = "INSERT OR IGNORE INTO LocalGitRepository (userId, path) VALUES (?, ?)";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            stmt.setString(2, path);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        synchronized (this) {
+            repositories = null;
+        }
+    }
+
+    /**
+     * @param name Repository name as listed
+     * @return True if the name is one of the user's local repositories
+     */
+    public boolean owns(String name) {
+        return listRepositoryNames().contains(name);
+    }
+
+    /**
+     * @return Paths of the user's local repositories, used as their names
+     */
+    @Override
+    public synchronized List<String> listRepositoryNames() {
+        if (repositories == null) repositories = List.copyOf(loadRepositories());
+        return repositories;
+    }
+
+    /**
+     * @return Paths of the user's local repositories as stored
+     */
+    private List<String> loadRepositories() {
+        List<String> paths = new ArrayList<>();
+        if (connection == null) return paths;
+
+        String sql = "SELECT path FROM LocalGitRepository WHERE userId = ? ORDER BY path";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) paths.add(rs.getString("path"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return paths;
+    }
+
+    /**
+     * Ingests any new commits, then streams the stored commits in the range into the summary.
+     *
+     * @param repoFullName  Repository path, or null for all local repositories
+     * @param start         Start date. Can be null
+     * @param end           End date. Can be null
+     * @param summary       Summary receiving the commits
+     * @param onRepoFetched Receives the summary after each repository. Can be null
+     * @throws IOException If git fails or the ingest is interrupted
+     */
+    @Override
+    public void collectCommits(String repoFullName, LocalDate start, LocalDate end,
+                               CommitSummary summary, Consumer<CommitSummary> onRepoFetched) throws IOException {
+        LocalDate from = start != null ? start : EARLIEST_COMMIT_DATE;
+        LocalDate to = end != null ? end : LocalDate.now();
+        List<String> repos = repoFullName != null ? List.of(repoFullName) : listRepositoryNames();
+
+        for (String path : repos) {
+            ingest(path);
+            store.forEachCommit(path, from, to, summary::add);
+            if (onRepoFetched != null) onRepoFetched.accept(summary);
+        }
+    }
+
+    /**
+     * @return Time of the most recent ingest of any local repository, or null if never
+     */
+    @Override
+    public Instant getLastSyncedAt() {
+        if (connection == null) return null;
+
+        String sql = "SELECT MAX(ingestedAt) AS latest FROM LocalGitRepository WHERE userId = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    long latest = rs.getLong("latest");
+                    if (!rs.wasNull()) return Instant.ofEpochMilli(latest);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Reads the commits added to a repository since its last ingest into the store.
+     * Only the configured user's commits are read, if an email is configured.
+     *
+     * @param path Absolute path of the working tree
+     * @throws IOException If git fails or the ingest is interrupted
+     */
+    public void ingest(String path) throws IOException {
+        synchronized (ingestLock) {
+            String head = runGit(path, "rev-parse", "HEAD");
+            if (head == null) return; // not a repository, or no commits yet
+
+            String lastHead = getLastHead(path);
+            if (head.equals(lastHead)) return;
+
+            String email = runGit(path, "config", "user.email");
+            // History may have been rewritten since the last ingest, in which case read it all again
+            if (lastHead == null || !streamLog(path, email, head, lastHead)) {
+                if (!streamLog(path, email, head, null)) throw new IOException("git log failed in " + path);
+            }
+            saveHead(path, head);
+        }
+    }
+
+    /**
+     * Streams git log into the store in batches.
+     *
+     * @param path     Absolute path of the working tree
+     * @param email    Author email to filter by, or null for every author
+     * @param head     Commit to read history from
+     * @param lastHead Commit already ingested, whose history is skipped. Can be null
+     * @return False if git exited with an error
+     * @throws IOException If the output cannot be read or the ingest is interrupted
+     */
+    private boolean streamLog(String path, String email, String head, String lastHead) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                "git", "-C", path, "log", "--no-color", "--pretty=tformat:%H%x1f%ct%x1f%s"));
+        if (email != null && !email.isBlank()) command.add("--author=" + email);
+        command.add(head);
+        if (lastHead != null) command.add("^" + lastHead);
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        ZoneId zone = ZoneId.systemDefault();
+        List<Commit> batch = new ArrayList<>(BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8), 1 << 16)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (Thread.currentThread().isInterrupted()) throw new InterruptedIOException("git log cancelled");
+
+                int first = line.indexOf(FIELD_SEPARATOR);
+                int second = line.indexOf(FIELD_SEPARATOR, first + 1);
+                if (first < 0 || second < 0) continue;
+
+                long epochSecond = Long.parseLong(line, first + 1, second, 10);
+                batch.add(new Commit(
+                        line.substring(0, first),
+                        path,
+                        line.substring(second + 1),
+                        null, // local commits have no web URL
+                        LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone)));
+
+                if (batch.size() == BATCH_SIZE) {
+                    store.saveCommits(path, batch);
+                    batch.clear();
+                }
+            }
+            store.saveCommits(path, batch);
+            return process.waitFor() == 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("git log cancelled");
+        } finally {
+            process.destroy();
+        }
+    }
+
+    /**
+     * Runs a short git command and returns its first line of output.
+     *
+     * @param path Absolute path of the working tree
+     * @param args Git arguments
+     * @return Trimmed first line, or null if git failed or printed nothing
+     * @throws IOException If git cannot be started
+     */
+    private String runGit(String path, String... args) throws IOException {
+        List<String> command = new ArrayList<>(List.of("git", "-C", path));
+        command.addAll(List.of(args));
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            if (process.waitFor() != 0 || line == null || line.isBlank()) return null;
+            return line.trim();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("git cancelled");
+        } finally {
+            process.destroy();
+        }
+    }
+
+    /**
+     * @param path Absolute path of the working tree
+     * @return HEAD the repository was last ingested up to, or null
+     */
+    private String getLastHead(String path) {
+        if (connection == null) return null;
+
+        String sql = "SELECT lastHead FROM LocalGitRepository WHERE userId = ? AND path = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            stmt.setString(2, path);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) return rs.getString("lastHead");
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Records the HEAD a repository has been ingested up to.
+     *
+     * @param path Absolute path of the working tree
+     * @param head Commit SHA of HEAD
+     */
+    private void saveHead(String path, String head) {
+        if (connection == null) return;
+
+        String sql = "UPDATE LocalGitRepository SET lastHead = ?, ingestedAt = ? WHERE userId = ? AND path = ?";
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, head);
+                stmt.setLong(2, System.currentTimeMillis());
+                stmt.setInt(3, userID);
+                stmt.setString(4, path);
+                stmt.executeUpdate();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Creates the repository table if it does not exist yet.
+     */
+    private void createTable() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS LocalGitRepository ("
+                    + "userId INTEGER NOT NULL, path TEXT NOT NULL, lastHead TEXT, ingestedAt INTEGER, "
+                    + "PRIMARY KEY (userId, path))");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
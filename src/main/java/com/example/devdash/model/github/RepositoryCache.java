@@ -0,0 +1,224 @@
+package com.example.devdash.model.github;
+
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of a GitHub user's repository list and each repository's pushed_at time.
+ * The list is trusted for a short TTL, then revalidated with the ETag of the
+ * first page of /user/repos (sorted by push), and is persisted in SQLite so it
+ * survives restarts.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class RepositoryCache {
+
+    // How long the list is used without asking GitHub at all
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // The ETag only covers the first page, so the full list is re-read at least this often
+    private static final Duration MAX_AGE = Duration.ofHours(24);
+
+    private final Connection connection;
+    private final String login;
+    private final Map<String, Instant> pushedAt = new LinkedHashMap<>();
+    private String etag;
+    private Instant fetchedAt;
+    private Instant validatedAt;
+
+    /**
+     * Constructor loads any persisted list for the login.
+     *
+     * @param login GitHub login the repositories belong to
+     */
+    public RepositoryCache(String login) {
+        this.connection = SqliteConnection.Connector();
+        this.login = login;
+        createTables();
+        load();
+    }
+
+    /**
+     * @return True if the list was validated recently enough to use without a request
+     */
+    public synchronized boolean isFresh() {
+        return validatedAt != null && Instant.now().isBefore(validatedAt.plus(TTL));
+    }
+
+    /**
+     * @return True if a conditional request is enough to revalidate the list
+     */
+    public synchronized boolean canRevalidate() {
+        return etag != null && fetchedAt != null && Instant.now().isBefore(fetchedAt.plus(MAX_AGE));
+    }
+
+    /**
+     * @return ETag of the last full listing, or null
+     */
+    public synchronized String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Records that GitHub confirmed the list is unchanged.
+     */
+    public synchronized void markRevalidated() {
+        validatedAt = Instant.now();
+        saveListState();
+    }
+
+    /**
+     * Replaces the cached list after a full listing.
+     *
+     * @param repos   Map of repository full names to their pushed_at time
+     * @param newEtag ETag of the listing, can be null
+     */
+    public synchronized void replace(Map<String, Instant> repos, String newEtag) {
+        pushedAt.clear();
+        pushedAt.putAll(repos);
+        etag = newEtag;
+        fetchedAt = Instant.now();
+        validatedAt = fetchedAt;
+        saveRepositories();
+        saveListState();
+    }
+
+    /**
+     * @return Full names of the cached repositories
+     */
+    public synchronized List<String> getFullNames() {
+        return new ArrayList<>(pushedAt.keySet());
+    }
+
+    /**
+     * @param repoFullName Repo full name user/repo
+     * @return Last push time of the repository, or null if unknown
+     */
+    public synchronized Instant getPushedAt(String repoFullName) {
+        return pushedAt.get(repoFullName);
+    }
+
+    /**
+     * @return True if a list has been cached
+     */
+    public synchronized boolean isEmpty() {
+        return fetchedAt == null;
+    }
+
+    /**
+     * Creates the cache tables if they do not exist yet.
+     */
+    private void createTables() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS GitHubRepositoryList ("
+                    + "login TEXT PRIMARY KEY, etag TEXT, fetchedAt INTEGER, validatedAt INTEGER)");
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS GitHubRepository ("
+                    + "login TEXT NOT NULL, fullName TEXT NOT NULL, pushedAt INTEGER, "
+                    + "PRIMARY KEY (login, fullName))");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Loads the persisted list and its validation state.
+     */
+    private void load() {
+        if (connection == null) return;
+
+        String listSql = "SELECT etag, fetchedAt, validatedAt FROM GitHubRepositoryList WHERE login = ?";
+        try (PreparedStatement stmt = connection.prepareStatement(listSql)) {
+            stmt.setString(1, login);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) return;
+                etag = rs.getString("etag");
+                fetchedAt = toInstant(rs.getLong("fetchedAt"));
+                validatedAt = toInstant(rs.getLong("validatedAt"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        String repoSql = "SELECT fullName, pushedAt FROM GitHubRepository WHERE login = ? ORDER BY pushedAt DESC";
+        try (PreparedStatement stmt = connection.prepareStatement(repoSql)) {
+            stmt.setString(1, login);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) pushedAt.put(rs.getString("fullName"), toInstant(rs.getLong("pushedAt")));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Persists the ETag and timestamps of the list.
+     */
+    private void saveListState() {
+        if (connection == null) return;
+        String sql = "INSERT OR REPLACE INTO GitHubRepositoryList (login, etag, fetchedAt, validatedAt) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, login);
+            stmt.setString(2, etag);
+            stmt.setLong(3, fetchedAt != null ? fetchedAt.toEpochMilli() : 0);
+            stmt.setLong(4, validatedAt != null ? validatedAt.toEpochMilli() : 0);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Replaces the persisted repositories in a single transaction.
+     */
+    private void saveRepositories() {
+        if (connection == null) return;
+
+        synchronized (connection) {
+            try {
+                connection.setAutoCommit(false);
+                try (PreparedStatement delete = connection.prepareStatement("DELETE FROM GitHubRepository WHERE login = ?");
+                     PreparedStatement insert = connection.prepareStatement(
+                             "INSERT INTO GitHubRepository (login, fullName, pushedAt) VALUES (?, ?, ?)")) {
+                    delete.setString(1, login);
+                    delete.executeUpdate();
+
+                    for (Map.Entry<String, Instant> e : pushedAt.entrySet()) {
+                        insert.setString(1, login);
+                        insert.setString(2, e.getKey());
+                        insert.setLong(3, e.getValue() != null ? e.getValue().toEpochMilli() : 0);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                e.printStackTrace();
+                try {
+                    connection.rollback();
+                } catch (SQLException ignored) {}
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException ignored) {}
+            }
+        }
+    }
+
+    /**
+     * @param epochMillis Stored timestamp, 0 if unset
+     * @return Instant or null
+     */
+    private Instant toInstant(long epochMillis) {
+        return epochMillis > 0 ? Instant.ofEpochMilli(epochMillis) : null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.devdash.model.todo;
+
+import java.sql.*;
+
+/**
+ * Hands out task and sprint IDs from a table shared by every user and session.
+ * IDs are reserved in blocks with one atomic update, so the repository can
+ * show new rows at once and write them later, and no two repositories ever
+ * get the same ID. The sequence never goes back, even when the rows with the
+ * highest IDs are deleted, and on startup it catches up with any rows added
+ * without it.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class IdSequence {
+
+    public static final String TASK = "Task";
+    public static final String SPRINT = "Sprint";
+
+    private final Connection connection;
+
+    /**
+     * Constructor creates the sequence table if needed and brings it up to date.
+     * The task, sprint, sprint history and sprint counter tables must already exist.
+     *
+     * @param connection Connection of the sequence's own, so reserving never waits for the writer's lock
+     */
+    public IdSequence(Connection connection) {
+        this.connection = connection;
+        createTable();
+    }
+
+    /**
+     * Creates the table and moves each sequence past the highest ID in use.
+     */
+    private void createTable() {
+        if (connection == null) return;
+        synchronized (connection) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.executeUpdate("CREATE TABLE IF NOT EXISTS IdSequence (name TEXT PRIMARY KEY, next INTEGER NOT NULL)");
+                stmt.executeUpdate(catchUp(TASK, "SELECT MAX(id) FROM Task"));
+                // Finished sprints leave the Sprint table but keep their history and counters,
+                // so their IDs must never be handed out again
+                stmt.executeUpdate(catchUp(SPRINT, "SELECT MAX(id) FROM (SELECT id FROM Sprint "
+                        + "UNION ALL SELECT sprintId FROM SprintHistory UNION ALL SELECT sprintId FROM SprintDayStats)"));
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * @param name   Sequence name
+     * @param maxSql Query for the highest ID in use
+     * @return Statement creating the sequence, or moving it past that ID if it is behind
+     */
+    private static String catchUp(String name, String maxSql) {
+        return "INSERT INTO IdSequence (name, next) SELECT '" + name + "', COALESCE((" + maxSql + "), 0) + 1 "
+                + "WHERE true ON CONFLICT (name) DO UPDATE SET next = MAX(next, excluded.next)";
+    }
+
+    /**
+     * Reserves a block of consecutive IDs. Can be called from any thread.
+     *
+     * @param name  TASK or SPRINT
+     * @param count Number of IDs
+     * @return First ID of the block, or -1 if none could be reserved
+     */
+    public int reserve(String name, int count) {
+        if (connection == null) return -1;
+        String sql = "UPDATE IdSequence SET next = next + ? WHERE name = ? RETURNING next - ? AS first";
+        synchronized (connection) {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setInt(1, count);
+                stmt.setString(2, name);
+                stmt.setInt(3, count);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) return rs.getInt("first");
+                }
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+        return -1;
+    }
+}
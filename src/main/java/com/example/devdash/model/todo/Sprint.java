@@ -6,7 +6,7 @@ import java.time.LocalDate;
  * Represents a Sprint in the to-do system.
  *
  * Author: Alexander Sukhin
- * Version: 31/08/2025
+ * Version: 19/10/2026
  */
 public class Sprint {
     private int id;
@@ -61,6 +61,27 @@ public class Sprint {
         return name;
     }
 
+    /**
+     * @return The ID of the user the sprint belongs to
+     */
+    public int getUserId() {
+        return userId;
+    }
+
+    /**
+     * @return The sprint start date
+     */
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * @return The sprint end date
+     */
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
     /**
      * @return The name of the sprint
      */
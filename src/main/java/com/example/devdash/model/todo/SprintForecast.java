@@ -0,0 +1,60 @@
+package com.example.devdash.model.todo;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo forecast of whether a sprint's open tasks will be finished in time.
+ * Each trial replays the days left by drawing a past day's throughput at random
+ * for each, and succeeds if enough tasks get done. Trials run in parallel chunks,
+ * each with its own SplittableRandom split from one seed, so results are
+ * repeatable and threads share nothing but the throughput array.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class SprintForecast {
+
+    public static final int DEFAULT_TRIALS = 50_000;
+
+    private static final int CHUNKS = 64;
+    private static final long SEED = 0x5EED_F00DL;
+
+    private SprintForecast() {
+    }
+
+    /**
+     * Estimates the probability of finishing a number of tasks within a number of days.
+     *
+     * @param dailyThroughput Tasks completed on each past day, the distribution drawn from
+     * @param openTasks       Tasks still to finish
+     * @param daysLeft        Calendar days left, including today, as the throughput covers every day
+     * @param trials          Number of simulations
+     * @return Probability between 0 and 1
+     */
+    public static double probabilityToFinish(int[] dailyThroughput, int openTasks, int daysLeft, int trials) {
+        if (openTasks <= 0) return 1;
+        if (daysLeft <= 0 || dailyThroughput.length == 0 || trials <= 0) return 0;
+
+        // Split sequentially so each chunk's stream is the same on every run
+        SplittableRandom root = new SplittableRandom(SEED);
+        SplittableRandom[] randoms = new SplittableRandom[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) randoms[i] = root.split();
+
+        int perChunk = (trials + CHUNKS - 1) / CHUNKS;
+        long finished = IntStream.range(0, CHUNKS).parallel().mapToLong(chunk -> {
+            SplittableRandom random = randoms[chunk];
+            int end = Math.min(trials, (chunk + 1) * perChunk);
+            long chunkFinished = 0;
+            for (int trial = chunk * perChunk; trial < end; trial++) {
+                int done = 0;
+                for (int day = 0; day < daysLeft && done < openTasks; day++) {
+                    done += dailyThroughput[random.nextInt(dailyThroughput.length)];
+                }
+                if (done >= openTasks) chunkFinished++;
+            }
+            return chunkFinished;
+        }).sum();
+        return finished / (double) trials;
+    }
+}
@@ -7,15 +7,17 @@ import java.time.LocalDate;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Data access object (DAO) for managing Sprint entities in the database.
  * Provides CRUD operations related to sprints, including creation,
- * retrieval, and deletion.
+ * retrieval, and deletion. Sprints are also kept in a history table
+ * that outlives finishing them, for velocity analytics.
  *
  * Author: Alexander Sukhin
- * Version: 31/08/2025
+ * Version: 19/10/2026
  */
 public class SprintModel {
     private final Connection connection;
@@ -25,32 +27,43 @@ public class SprintModel {
      */
     public SprintModel() {
         connection = SqliteConnection.Connector();
+        createHistoryTable();
     }
 
-
     /**
-     * Adds a new sprint for a specific user.
+     * Constructor for a model on a connection of its own, e.g. the write-behind writer's.
+     * The tables must already have been set up through the shared connection.
      *
-     * @param userId    The user's ID
-     * @param name      the name of the sprint
-     * @param startDate the start date of the sprint
-     * @param endDate   the end date of the sprint
-     * @return True if the sprint was successfully inserted into the database, false otherwise
+     * @param connection Connection to use
      */
-    public boolean addSprint(int userId, String name, LocalDate startDate, LocalDate endDate) {
-        String sql = "INSERT INTO Sprint (userId, name, startDate, endDate) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, userId);
-            stmt.setString(2, name);
-            stmt.setString(3, startDate.toString());
-            stmt.setString(4, endDate.toString());
-            return stmt.executeUpdate() > 0;
+    SprintModel(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Creates the sprint history table if it does not exist yet, copying in the current sprints.
+     */
+    private void createHistoryTable() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            boolean exists;
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = 'SprintHistory'")) {
+                exists = rs.next();
+            }
+            if (exists) return;
+
+            stmt.executeUpdate("CREATE TABLE SprintHistory ("
+                    + "sprintId INTEGER PRIMARY KEY, userId INTEGER NOT NULL, name TEXT NOT NULL, "
+                    + "startDate TEXT NOT NULL, endDate TEXT NOT NULL, finishedAt TEXT)");
+            stmt.executeUpdate("INSERT OR IGNORE INTO SprintHistory (sprintId, userId, name, startDate, endDate) "
+                    + "SELECT id, userId, name, startDate, endDate FROM Sprint");
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
         }
     }
 
+
     /**
      * Retrieves all sprints associated with a given user.
      *
@@ -79,18 +92,59 @@ public class SprintModel {
     }
 
     /**
-     * Deletes a sprint from the database.
+     * Inserts sprints with their IDs already assigned, and records them in the history.
+     * Runs in the caller's transaction.
      *
-     * @param sprintId the ID of the sprint to delete
-     * @return True if the sprint was successfully deleted, false otherwise
+     * @param sprints Sprints to insert
+     * @throws SQLException If the insert fails
      */
-    public boolean deleteSprint(int sprintId) {
-        try (PreparedStatement stmt = connection.prepareStatement("DELETE FROM Sprint WHERE id = ?")) {
-            stmt.setInt(1, sprintId);
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
+    void insertSprints(Collection<Sprint> sprints) throws SQLException {
+        if (sprints.isEmpty()) return;
+        insertSprints("INSERT INTO Sprint (id, userId, name, startDate, endDate) VALUES (?, ?, ?, ?, ?)", sprints);
+        insertSprints("INSERT OR REPLACE INTO SprintHistory (sprintId, userId, name, startDate, endDate) "
+                + "VALUES (?, ?, ?, ?, ?)", sprints);
+    }
+
+    /**
+     * Runs an insert of sprint rows for each sprint.
+     *
+     * @param sql     Insert with id, userId, name, startDate and endDate parameters
+     * @param sprints Sprints to insert
+     * @throws SQLException If the insert fails
+     */
+    private void insertSprints(String sql, Collection<Sprint> sprints) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (Sprint sprint : sprints) {
+                stmt.setInt(1, sprint.getId());
+                stmt.setInt(2, sprint.getUserId());
+                stmt.setString(3, sprint.getName());
+                stmt.setString(4, sprint.getStartDate().toString());
+                stmt.setString(5, sprint.getEndDate().toString());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Deletes sprints by ID, marking them finished in the history. Runs in the caller's transaction.
+     *
+     * @param sprintIds IDs of the sprints to delete
+     * @throws SQLException If the delete fails
+     */
+    void deleteSprints(Collection<Integer> sprintIds) throws SQLException {
+        if (sprintIds.isEmpty()) return;
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM Sprint WHERE id = ?");
+             PreparedStatement finish = connection.prepareStatement(
+                     "UPDATE SprintHistory SET finishedAt = datetime('now','localtime') WHERE sprintId = ?")) {
+            for (int id : sprintIds) {
+                delete.setInt(1, id);
+                delete.addBatch();
+                finish.setInt(1, id);
+                finish.addBatch();
+            }
+            delete.executeBatch();
+            finish.executeBatch();
         }
     }
 }
@@ -1,14 +1,20 @@
 package com.example.devdash.model.todo;
 
-import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 /**
  * Represents a single to-do task.
+ * Tasks are not modified once created; changes produce a new Task with the same id.
+ * The update time and due date are parsed once, when the task is created, so
+ * rendering it and refreshing its relative time parse no dates.
  *
  * Author: Alexander Sukhin
- * Version: 31/08/2025
+ * Version: 19/10/2026
  */
 public class Task {
 
@@ -18,8 +24,16 @@ public class Task {
     private String status;
     private int priority; // 0 = low, 1 = medium, 2 = high
     private String dueDate;
+    private long dueEpochDay; // NO_DUE_DATE if there is none
+    private int sprintId; // 0 = backlog
+    private double rank; // position within its column, lowest first
     private LocalDateTime createdAt;
     private String updatedAt;
+    private long updatedAtEpochSecond; // NO_TIMESTAMP if never updated
+
+    public static final DateTimeFormatter UPDATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    public static final long NO_DUE_DATE = Long.MIN_VALUE;
 
 
     /**
@@ -30,13 +44,128 @@ public class Task {
      * @param description Task's description
      */
     public Task(int id, String description, String status, int priority, String dueDate, String updatedAt) {
+        this(id, description, status, priority, dueDate, 0, updatedAt);
+    }
+
+    /**
+     * Constructs a Task including the sprint it belongs to.
+     *
+     * @param id          Task's ID
+     * @param description Task's description
+     * @param status      Task status
+     * @param priority    Task priority
+     * @param dueDate     Due date as yyyy-MM-dd, or null
+     * @param sprintId    Sprint ID, or 0 if the task is in the backlog
+     * @param updatedAt   Last update as yyyy-MM-dd HH:mm:ss, or null
+     */
+    public Task(int id, String description, String status, int priority, String dueDate, int sprintId, String updatedAt) {
+        this(id, description, status, priority, dueDate, sprintId, 0, updatedAt);
+    }
+
+    /**
+     * Constructs a Task including its sprint and its position within its column.
+     *
+     * @param id          Task's ID
+     * @param description Task's description
+     * @param status      Task status
+     * @param priority    Task priority
+     * @param dueDate     Due date as yyyy-MM-dd, or null
+     * @param sprintId    Sprint ID, or 0 if the task is in the backlog
+     * @param rank        Position within its column, lowest first
+     * @param updatedAt   Last update as yyyy-MM-dd HH:mm:ss, or null
+     */
+    public Task(int id, String description, String status, int priority, String dueDate, int sprintId,
+                double rank, String updatedAt) {
+        this(id, description, status, priority, dueDate, parseEpochDay(dueDate), sprintId, rank,
+                updatedAt, parseEpochSecond(updatedAt));
+    }
+
+    /**
+     * Constructs a Task whose due date and update time are already parsed.
+     */
+    private Task(int id, String description, String status, int priority, String dueDate, long dueEpochDay,
+                 int sprintId, double rank, String updatedAt, long updatedAtEpochSecond) {
         this.id = id;
         this.description = description;
         this.status = status;
         this.priority = priority;
         this.dueDate = dueDate;
+        this.dueEpochDay = dueEpochDay;
+        this.sprintId = sprintId;
+        this.rank = rank;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = updatedAt;
+        this.updatedAtEpochSecond = updatedAtEpochSecond;
+    }
+
+    /**
+     * @param dueDate Due date as yyyy-MM-dd, or null
+     * @return Epoch day of the due date, or NO_DUE_DATE if there is none
+     */
+    private static long parseEpochDay(String dueDate) {
+        if (dueDate == null || dueDate.isBlank()) return NO_DUE_DATE;
+        try {
+            return LocalDate.parse(dueDate).toEpochDay();
+        } catch (DateTimeParseException e) {
+            e.printStackTrace();
+            return NO_DUE_DATE;
+        }
+    }
+
+    /**
+     * @param updatedAt Update time as yyyy-MM-dd HH:mm:ss in local time, or null
+     * @return Epoch seconds of the update time, or NO_TIMESTAMP if there is none
+     */
+    private static long parseEpochSecond(String updatedAt) {
+        if (updatedAt == null || updatedAt.isBlank()) return NO_TIMESTAMP;
+        try {
+            return LocalDateTime.parse(updatedAt, UPDATED_AT_FORMAT).atZone(ZoneId.systemDefault()).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            e.printStackTrace();
+            return NO_TIMESTAMP;
+        }
+    }
+
+    /**
+     * Returns a copy of the task moved to a status, sprint and position, updated now.
+     *
+     * @param status   New status
+     * @param sprintId New sprint ID, or 0 for the backlog
+     * @param rank     New position within the column
+     * @return Updated task
+     */
+    public Task withPlacement(String status, int sprintId, double rank) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Task(id, description, status, priority, dueDate, dueEpochDay, sprintId, rank,
+                now.format(UPDATED_AT_FORMAT), now.atZone(ZoneId.systemDefault()).toEpochSecond());
+    }
+
+    /**
+     * Returns a copy of the task at another position, keeping its update time,
+     * e.g. when its column is renumbered.
+     *
+     * @param rank New position within the column
+     * @return Repositioned task
+     */
+    public Task withRank(double rank) {
+        return new Task(id, description, status, priority, dueDate, dueEpochDay, sprintId, rank,
+                updatedAt, updatedAtEpochSecond);
+    }
+
+    /**
+     * Returns a copy of the task with edited details, updated now.
+     *
+     * @param description New description
+     * @param status      New status
+     * @param priority    New priority
+     * @param dueDate     New due date, or null
+     * @param sprintId    New sprint ID, or 0 for the backlog
+     * @return Updated task
+     */
+    public Task withDetails(String description, String status, int priority, String dueDate, int sprintId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Task(id, description, status, priority, dueDate, parseEpochDay(dueDate), sprintId, rank,
+                now.format(UPDATED_AT_FORMAT), now.atZone(ZoneId.systemDefault()).toEpochSecond());
     }
 
     /**
@@ -70,22 +199,51 @@ public class Task {
         return dueDate != null ? dueDate : "";
     }
 
+    /**
+     * @return Due date as an epoch day, or NO_DUE_DATE if there is none
+     */
+    public long getDueEpochDay() { return dueEpochDay; }
+
+    /**
+     * @return The sprint ID, or 0 if the task is in the backlog
+     */
+    public int getSprintId() { return sprintId; }
+
+    /**
+     * @return Position within its column, lowest first
+     */
+    public double getRank() { return rank; }
+
+    /**
+     * @return Last update as yyyy-MM-dd HH:mm:ss, or null if never updated
+     */
+    public String getUpdatedAt() { return updatedAt; }
+
+    /**
+     * @return Last update as epoch seconds, or NO_TIMESTAMP if never updated
+     */
+    public long getUpdatedAtEpochSecond() { return updatedAtEpochSecond; }
+
     /**
      * Returns a human-readable string representing how long ago the task was last updated.
      *
      * @return A formatted string describing the relative update time
      */
     public String getFormattedUpdatedAt() {
-        if (updatedAt == null || updatedAt.isBlank()) return "";
-
-
-        // parse the updatedAt string into LocalDateTime
-        LocalDateTime updatedTime = LocalDateTime.parse(updatedAt, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-        LocalDateTime now = LocalDateTime.now();
+        return getFormattedUpdatedAt(Instant.now().getEpochSecond());
+    }
 
-        Duration duration = Duration.between(updatedTime, now);
+    /**
+     * Returns a human-readable string representing how long ago the task was last updated,
+     * relative to a given time, so many tasks can be formatted against one clock reading.
+     *
+     * @param nowEpochSecond Current time as epoch seconds
+     * @return A formatted string describing the relative update time
+     */
+    public String getFormattedUpdatedAt(long nowEpochSecond) {
+        if (updatedAtEpochSecond == NO_TIMESTAMP) return "";
 
-        long seconds = duration.getSeconds();
+        long seconds = nowEpochSecond - updatedAtEpochSecond;
         if (seconds < 60) {
             return "Updated just now";
         } else if (seconds < 3600) { // less than 1 hour
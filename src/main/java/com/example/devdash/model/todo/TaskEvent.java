@@ -0,0 +1,134 @@
+package com.example.devdash.model.todo;
+
+import java.time.LocalDateTime;
+
+/**
+ * An entry in the append-only task event log: a task being created, changing
+ * status or sprint, being completed, carried over from a finished sprint, or deleted.
+ * Each event records where the task was before and after, which is all that is
+ * needed to keep the per-day sprint counters up to date.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskEvent {
+
+    /**
+     * Kind of change to a task.
+     */
+    public enum Type { CREATED, STATUS_CHANGED, SPRINT_CHANGED, COMPLETED, CARRIED_OVER, DELETED }
+
+    private final int taskId;
+    private final Type type;
+    private final String fromStatus;
+    private final String toStatus;
+    private final int fromSprintId;
+    private final int toSprintId;
+    private final LocalDateTime occurredAt;
+
+    /**
+     * Constructs an event.
+     *
+     * @param taskId       ID of the task
+     * @param type         Kind of change
+     * @param fromStatus   Status before, or null if the task was created
+     * @param toStatus     Status after, or null if the task was deleted
+     * @param fromSprintId Sprint before, or 0 for the backlog
+     * @param toSprintId   Sprint after, or 0 for the backlog
+     * @param occurredAt   When the change was made
+     */
+    public TaskEvent(int taskId, Type type, String fromStatus, String toStatus,
+                     int fromSprintId, int toSprintId, LocalDateTime occurredAt) {
+        this.taskId = taskId;
+        this.type = type;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.fromSprintId = fromSprintId;
+        this.toSprintId = toSprintId;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * @param task New task
+     * @return Event for the task being created
+     */
+    static TaskEvent created(Task task) {
+        return new TaskEvent(task.getId(), Type.CREATED, null, task.getStatus(),
+                0, task.getSprintId(), LocalDateTime.now());
+    }
+
+    /**
+     * @param task Task being deleted
+     * @return Event for the task being deleted
+     */
+    static TaskEvent deleted(Task task) {
+        return new TaskEvent(task.getId(), Type.DELETED, task.getStatus(), null,
+                task.getSprintId(), 0, LocalDateTime.now());
+    }
+
+    /**
+     * @param before Task in its finished sprint
+     * @param after  Task back in the backlog
+     * @return Event for an unfinished task carried over when its sprint is finished
+     */
+    static TaskEvent carriedOver(Task before, Task after) {
+        return new TaskEvent(before.getId(), Type.CARRIED_OVER, before.getStatus(), after.getStatus(),
+                before.getSprintId(), after.getSprintId(), LocalDateTime.now());
+    }
+
+    /**
+     * Describes how a task changed, if its status or sprint changed.
+     *
+     * @param before Task before the change
+     * @param after  Task after the change
+     * @return Event for the change, or null if neither status nor sprint changed
+     */
+    static TaskEvent between(Task before, Task after) {
+        boolean sprintChanged = before.getSprintId() != after.getSprintId();
+        boolean statusChanged = !before.getStatus().equals(after.getStatus());
+        if (!sprintChanged && !statusChanged) return null;
+
+        Type type;
+        if (isDone(after.getStatus()) && !isDone(before.getStatus())) type = Type.COMPLETED;
+        else if (sprintChanged) type = Type.SPRINT_CHANGED;
+        else type = Type.STATUS_CHANGED;
+        return new TaskEvent(before.getId(), type, before.getStatus(), after.getStatus(),
+                before.getSprintId(), after.getSprintId(), LocalDateTime.now());
+    }
+
+    /**
+     * @param status Task status, may be null
+     * @return True if the status counts as completed
+     */
+    static boolean isDone(String status) {
+        return "DONE".equals(status);
+    }
+
+    public int getTaskId() {
+        return taskId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public int getFromSprintId() {
+        return fromSprintId;
+    }
+
+    public int getToSprintId() {
+        return toSprintId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
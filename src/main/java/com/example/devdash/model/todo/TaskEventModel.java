@@ -0,0 +1,320 @@
+package com.example.devdash.model.todo;
+
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Data access object for the task event log and the sprint analytics built on it.
+ * Events are appended in the same transaction as the task changes they describe,
+ * and each batch also updates per-sprint, per-day counters of scope changes and
+ * completions. Burndown and velocity are read from those counters, so the log
+ * never has to be replayed.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskEventModel {
+
+    private final Connection connection;
+
+    /**
+     * Tasks completed in one sprint.
+     */
+    public static final class SprintVelocity {
+        private final String name;
+        private final LocalDate startDate;
+        private final int completed;
+
+        private SprintVelocity(String name, LocalDate startDate, int completed) {
+            this.name = name;
+            this.startDate = startDate;
+            this.completed = completed;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public int getCompleted() {
+            return completed;
+        }
+    }
+
+    /**
+     * Constructor to initialize the connection and create the tables.
+     */
+    public TaskEventModel() {
+        connection = SqliteConnection.Connector();
+        createTables();
+    }
+
+    /**
+     * Constructor for a model on a connection of its own, e.g. the write-behind writer's.
+     * The tables must already have been set up through the shared connection.
+     *
+     * @param connection Connection to use
+     */
+    TaskEventModel(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Appends events to the log and updates the sprint counters. Runs in the caller's transaction.
+     *
+     * @param userID ID of the user the tasks belong to
+     * @param events Events in the order they happened
+     * @throws SQLException If the insert fails
+     */
+    void insertEvents(int userID, Collection<TaskEvent> events) throws SQLException {
+        if (events.isEmpty()) return;
+
+        String sql = "INSERT INTO TaskEvent (userId, taskId, type, fromStatus, toStatus, fromSprintId, toSprintId, occurredAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        // Counter changes are summed per sprint and day first, so each is upserted once
+        Map<Integer, Map<LocalDate, int[]>> deltas = new HashMap<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (TaskEvent event : events) {
+                stmt.setInt(1, userID);
+                stmt.setInt(2, event.getTaskId());
+                stmt.setString(3, event.getType().name());
+                stmt.setString(4, event.getFromStatus());
+                stmt.setString(5, event.getToStatus());
+                setSprint(stmt, 6, event.getFromSprintId());
+                setSprint(stmt, 7, event.getToSprintId());
+                stmt.setString(8, event.getOccurredAt().format(Task.UPDATED_AT_FORMAT));
+                stmt.addBatch();
+                addDeltas(deltas, event);
+            }
+            stmt.executeBatch();
+        }
+
+        String upsert = "INSERT INTO SprintDayStats (sprintId, day, scopeChange, completed) VALUES (?, ?, ?, ?) "
+                + "ON CONFLICT (sprintId, day) DO UPDATE SET scopeChange = scopeChange + excluded.scopeChange, "
+                + "completed = completed + excluded.completed";
+        try (PreparedStatement stmt = connection.prepareStatement(upsert)) {
+            for (Map.Entry<Integer, Map<LocalDate, int[]>> sprint : deltas.entrySet()) {
+                for (Map.Entry<LocalDate, int[]> day : sprint.getValue().entrySet()) {
+                    int[] delta = day.getValue();
+                    if (delta[0] == 0 && delta[1] == 0) continue;
+                    stmt.setInt(1, sprint.getKey());
+                    stmt.setString(2, day.getKey().toString());
+                    stmt.setInt(3, delta[0]);
+                    stmt.setInt(4, delta[1]);
+                    stmt.addBatch();
+                }
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Adds an event's effect on the sprint counters: tasks entering or leaving a sprint
+     * change its scope, and tasks entering or leaving DONE change its completions.
+     * Carried-over tasks leave the counters alone, so a finished sprint's burndown
+     * still shows the work left, and deleting a done task keeps its completion.
+     *
+     * @param deltas Scope and completion changes per sprint and day
+     * @param event  Event to add
+     */
+    private static void addDeltas(Map<Integer, Map<LocalDate, int[]>> deltas, TaskEvent event) {
+        if (event.getType() == TaskEvent.Type.CARRIED_OVER) return;
+        if (event.getType() == TaskEvent.Type.DELETED && TaskEvent.isDone(event.getFromStatus())) return;
+
+        LocalDate day = event.getOccurredAt().toLocalDate();
+        int wasDone = TaskEvent.isDone(event.getFromStatus()) ? 1 : 0;
+        int isDone = TaskEvent.isDone(event.getToStatus()) ? 1 : 0;
+
+        if (event.getFromSprintId() == event.getToSprintId()) {
+            if (event.getToSprintId() != 0) addDelta(deltas, event.getToSprintId(), day, 0, isDone - wasDone);
+            return;
+        }
+        if (event.getFromSprintId() != 0) addDelta(deltas, event.getFromSprintId(), day, -1, -wasDone);
+        if (event.getToSprintId() != 0) addDelta(deltas, event.getToSprintId(), day, 1, isDone);
+    }
+
+    private static void addDelta(Map<Integer, Map<LocalDate, int[]>> deltas, int sprintId, LocalDate day,
+                                 int scopeChange, int completed) {
+        int[] delta = deltas.computeIfAbsent(sprintId, id -> new HashMap<>())
+                .computeIfAbsent(day, d -> new int[2]);
+        delta[0] += scopeChange;
+        delta[1] += completed;
+    }
+
+    /**
+     * Computes the tasks left in a sprint at the end of each day, from its start
+     * up to its end or today, whichever is first.
+     *
+     * @param sprint Sprint with start and end dates
+     * @return Tasks remaining per day, in date order
+     */
+    public LinkedHashMap<LocalDate, Integer> getBurndown(Sprint sprint) {
+        LinkedHashMap<LocalDate, Integer> burndown = new LinkedHashMap<>();
+        if (sprint.getStartDate() == null || sprint.getEndDate() == null) return burndown;
+
+        String sql = "SELECT day, scopeChange, completed FROM SprintDayStats WHERE sprintId = ? ORDER BY day";
+        TreeMap<LocalDate, Integer> changes = new TreeMap<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, sprint.getId());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    changes.put(LocalDate.parse(rs.getString("day")), rs.getInt("scopeChange") - rs.getInt("completed"));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return burndown;
+        }
+
+        LocalDate last = sprint.getEndDate().isBefore(LocalDate.now()) ? sprint.getEndDate() : LocalDate.now();
+        // Work planned before the sprint started counts towards its first day
+        int remaining = changes.headMap(sprint.getStartDate()).values().stream().mapToInt(Integer::intValue).sum();
+        for (LocalDate day = sprint.getStartDate(); !day.isAfter(last); day = day.plusDays(1)) {
+            remaining += changes.getOrDefault(day, 0);
+            burndown.put(day, remaining);
+        }
+        return burndown;
+    }
+
+    /**
+     * Gets the number of tasks completed in each of the user's most recent sprints,
+     * including finished ones.
+     *
+     * @param userID ID of the user
+     * @param limit  Maximum number of sprints
+     * @return Velocity per sprint, oldest first
+     */
+    public List<SprintVelocity> getVelocity(int userID, int limit) {
+        String sql = "SELECT h.name, h.startDate, COALESCE(SUM(d.completed), 0) AS completed "
+                + "FROM SprintHistory h LEFT JOIN SprintDayStats d ON d.sprintId = h.sprintId "
+                + "WHERE h.userId = ? GROUP BY h.sprintId ORDER BY h.startDate DESC, h.sprintId DESC LIMIT ?";
+        List<SprintVelocity> velocity = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    velocity.add(new SprintVelocity(rs.getString("name"),
+                            LocalDate.parse(rs.getString("startDate")), rs.getInt("completed")));
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        Collections.reverse(velocity);
+        return velocity;
+    }
+
+    /**
+     * Counts the tasks a user completed on each day of a range, for forecasting.
+     * Reopening a task takes its completion back on that day, so a task completed twice
+     * counts once, and a task created as done counts on the day it was created.
+     * The range starts no earlier than the user's first logged event, so days
+     * before the log existed are not counted as days with nothing done.
+     *
+     * @param userID ID of the user
+     * @param from   First day
+     * @param to     Last day
+     * @return Tasks completed per day, oldest first; empty if no day has been logged
+     */
+    public int[] getDailyThroughput(int userID, LocalDate from, LocalDate to) {
+        String firstSql = "SELECT MIN(occurredAt) AS first FROM TaskEvent WHERE userId = ?";
+        // Same rule as the sprint counters: entering DONE counts, leaving it again takes the
+        // completion back, and deleting a done task keeps it
+        String countSql = "SELECT substr(occurredAt, 1, 10) AS day, SUM(CASE "
+                + "WHEN toStatus = 'DONE' AND COALESCE(fromStatus, '') <> 'DONE' THEN 1 "
+                + "WHEN fromStatus = 'DONE' AND COALESCE(toStatus, '') <> 'DONE' AND type <> 'DELETED' THEN -1 "
+                + "ELSE 0 END) AS completed FROM TaskEvent "
+                + "WHERE userId = ? AND occurredAt >= ? AND occurredAt < ? GROUP BY day";
+        try (PreparedStatement first = connection.prepareStatement(firstSql);
+             PreparedStatement count = connection.prepareStatement(countSql)) {
+            first.setInt(1, userID);
+            try (ResultSet rs = first.executeQuery()) {
+                if (!rs.next() || rs.getString("first") == null) return new int[0];
+                LocalDate firstDay = LocalDate.parse(rs.getString("first").substring(0, 10));
+                if (firstDay.isAfter(from)) from = firstDay;
+            }
+            if (from.isAfter(to)) return new int[0];
+
+            int[] throughput = new int[(int) (to.toEpochDay() - from.toEpochDay()) + 1];
+            count.setInt(1, userID);
+            count.setString(2, from.toString());
+            count.setString(3, to.plusDays(1).toString());
+            try (ResultSet rs = count.executeQuery()) {
+                while (rs.next()) {
+                    int index = (int) (LocalDate.parse(rs.getString("day")).toEpochDay() - from.toEpochDay());
+                    throughput[index] = rs.getInt("completed");
+                }
+            }
+            return throughput;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return new int[0];
+        }
+    }
+
+    /**
+     * Binds a sprint ID, or NULL for the backlog.
+     */
+    private static void setSprint(PreparedStatement stmt, int index, int sprintId) throws SQLException {
+        if (sprintId != 0) stmt.setInt(index, sprintId);
+        else stmt.setNull(index, Types.INTEGER);
+    }
+
+    /**
+     * Creates the event log and counter tables if they do not exist yet.
+     * The counters start from the current tasks, so existing sprints do not
+     * show an empty burndown until their tasks change.
+     */
+    private void createTables() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE IF NOT EXISTS TaskEvent ("
+                    + "id INTEGER PRIMARY KEY AUTOINCREMENT, userId INTEGER NOT NULL, taskId INTEGER NOT NULL, "
+                    + "type TEXT NOT NULL, fromStatus TEXT, toStatus TEXT, fromSprintId INTEGER, toSprintId INTEGER, "
+                    + "occurredAt TEXT NOT NULL)");
+            stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_TaskEvent_taskId ON TaskEvent (taskId)");
+            stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_TaskEvent_userId_type_occurredAt "
+                    + "ON TaskEvent (userId, type, occurredAt)");
+
+            boolean exists;
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = 'SprintDayStats'")) {
+                exists = rs.next();
+            }
+            if (exists) return;
+
+            stmt.executeUpdate("CREATE TABLE SprintDayStats ("
+                    + "sprintId INTEGER NOT NULL, day TEXT NOT NULL, scopeChange INTEGER NOT NULL, "
+                    + "completed INTEGER NOT NULL, PRIMARY KEY (sprintId, day))");
+            backfillSprintStats(stmt);
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Fills new sprint counters from the tasks currently in each sprint: all of them
+     * count as scope on the sprint's first day, and done tasks as completed on the
+     * day they were last updated, as the log has no earlier history to go by.
+     *
+     * @param stmt Statement on the shared connection
+     * @throws SQLException If the insert fails
+     */
+    private static void backfillSprintStats(Statement stmt) throws SQLException {
+        stmt.executeUpdate("INSERT INTO SprintDayStats (sprintId, day, scopeChange, completed) "
+                + "SELECT s.id, s.startDate, COUNT(*), 0 FROM Sprint s JOIN Task t ON t.sprintId = s.id "
+                + "WHERE s.startDate IS NOT NULL GROUP BY s.id");
+        stmt.executeUpdate("INSERT INTO SprintDayStats (sprintId, day, scopeChange, completed) "
+                + "SELECT s.id, COALESCE(substr(t.updatedAt, 1, 10), s.startDate) AS day, 0, COUNT(*) "
+                + "FROM Sprint s JOIN Task t ON t.sprintId = s.id "
+                + "WHERE s.startDate IS NOT NULL AND t.status = 'DONE' GROUP BY s.id, day "
+                + "ON CONFLICT (sprintId, day) DO UPDATE SET completed = completed + excluded.completed");
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.devdash.model.todo;
+
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.Locale;
+
+/**
+ * Exports a user's board to a CSV or JSON file. Pending changes are written
+ * first, then rows are streamed from the database straight to a buffered
+ * writer, in column order, so the board is never copied in memory.
+ * Rows are read in one transaction on a read-only connection of the exporter's own,
+ * so the file is a consistent snapshot even while the write-behind writer commits.
+ * CSV has one row per task with its sprint; JSON has the sprints and the tasks,
+ * and can be imported again.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskExporter {
+
+    private static final String TASKS_SQL = "SELECT t.id, t.description, t.status, t.priority, t.dueDate, "
+            + "t.rank, t.updatedAt, s.name AS sprint FROM Task t LEFT JOIN Sprint s ON s.id = t.sprintId "
+            + "WHERE t.userId = ? ORDER BY t.sprintId IS NOT NULL, t.sprintId, t.status, t.rank";
+    private static final String[] TASK_COLUMNS =
+            {"id", "description", "status", "priority", "dueDate", "sprint", "rank", "updatedAt"};
+
+    private final TaskRepository taskRepository;
+    private final int userID;
+
+    /**
+     * Constructor for the exporter. Created by TaskRepository.createExporter().
+     *
+     * @param taskRepository TaskRepository whose pending changes are written first
+     * @param userID         ID of the user
+     */
+    TaskExporter(TaskRepository taskRepository, int userID) {
+        this.taskRepository = taskRepository;
+        this.userID = userID;
+    }
+
+    /**
+     * Exports the board, blocking until done, so it should run in the background.
+     *
+     * @param file CSV file, or JSON file if its name ends in .json
+     * @return Number of tasks exported
+     * @throws IOException If the file cannot be written or the board cannot be read
+     */
+    public int exportFile(Path file) throws IOException {
+        taskRepository.flush();
+        boolean json = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+
+        try (Connection connection = SqliteConnection.openReadOnly()) {
+            if (connection == null) throw new IOException("No database connection");
+            connection.setAutoCommit(false);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                return json ? writeJson(connection, writer) : writeCsv(connection, writer);
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not read the board", e);
+        }
+    }
+
+    /**
+     * Writes a header row and one row per task.
+     */
+    private int writeCsv(Connection connection, BufferedWriter writer) throws IOException, SQLException {
+        writer.write(String.join(",", TASK_COLUMNS));
+        writer.newLine();
+
+        int count = 0;
+        try (PreparedStatement stmt = connection.prepareStatement(TASKS_SQL)) {
+            stmt.setInt(1, userID);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    for (int i = 0; i < TASK_COLUMNS.length; i++) {
+                        if (i > 0) writer.write(',');
+                        writer.write(csvField(rs.getString(TASK_COLUMNS[i])));
+                    }
+                    writer.newLine();
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes {"sprints": [...], "tasks": [...]}.
+     */
+    private int writeJson(Connection connection, BufferedWriter writer) throws IOException, SQLException {
+        writer.write("{\"sprints\":[");
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT id, name, startDate, endDate FROM Sprint WHERE userId = ? ORDER BY startDate, id")) {
+            stmt.setInt(1, userID);
+            try (ResultSet rs = stmt.executeQuery()) {
+                boolean first = true;
+                while (rs.next()) {
+                    if (!first) writer.write(',');
+                    first = false;
+                    writer.write("\n{\"id\":" + rs.getInt("id")
+                            + ",\"name\":" + jsonString(rs.getString("name"))
+                            + ",\"startDate\":" + jsonString(rs.getString("startDate"))
+                            + ",\"endDate\":" + jsonString(rs.getString("endDate")) + "}");
+                }
+            }
+        }
+
+        writer.write("],\"tasks\":[");
+        int count = 0;
+        try (PreparedStatement stmt = connection.prepareStatement(TASKS_SQL)) {
+            stmt.setInt(1, userID);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    if (count > 0) writer.write(',');
+                    writer.write("\n{\"id\":" + rs.getInt("id")
+                            + ",\"description\":" + jsonString(rs.getString("description"))
+                            + ",\"status\":" + jsonString(rs.getString("status"))
+                            + ",\"priority\":" + rs.getInt("priority")
+                            + ",\"dueDate\":" + jsonString(rs.getString("dueDate"))
+                            + ",\"sprint\":" + jsonString(rs.getString("sprint"))
+                            + ",\"rank\":" + rs.getDouble("rank")
+                            + ",\"updatedAt\":" + jsonString(rs.getString("updatedAt")) + "}");
+                    count++;
+                }
+            }
+        }
+        writer.write("\n]}");
+        writer.newLine();
+        return count;
+    }
+
+    /**
+     * @param value Field value, may be null
+     * @return The value, quoted if it contains a comma, quote or line break
+     */
+    private static String csvField(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * @param value String value, may be null
+     * @return The value as a JSON string literal, or null
+     */
+    private static String jsonString(String value) {
+        if (value == null) return "null";
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) json.append(String.format("\\u%04x", (int) c));
+                    else json.append(c);
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.devdash.model.todo;
+
+import com.example.devdash.helper.data.CsvRecordReader;
+import com.example.devdash.helper.data.JsonRecordReader;
+import com.example.devdash.helper.data.RecordReader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Imports tasks into the end of the backlog from a CSV or JSON file, such as
+ * exported issues or a board exported by TaskExporter. Rows are streamed from
+ * the file and inserted in batches, each in one transaction through the
+ * repository's writer together with its creation events, so the file is never loaded whole.
+ * Descriptions are taken from a description, title, summary or name field;
+ * priority, as 0-2 or Low/Medium/High, and due date are optional. Imported
+ * tasks always go to the backlog, so sprint and status fields are ignored.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskImporter {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * Constructor for the importer. Created by TaskRepository.createImporter().
+     *
+     * @param taskRepository TaskRepository reserving IDs and ranks for the imported tasks
+     */
+    TaskImporter(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Imports a file, blocking until done, so it should run in the background.
+     * Batches already committed stay imported if a later one fails.
+     *
+     * @param file       CSV file, or JSON file if its name ends in .json
+     * @param onProgress Receives the fraction of the file read after each batch
+     * @param onBatch    Receives each batch of tasks once it has been committed
+     * @return Number of tasks imported
+     * @throws IOException If the file cannot be read or is malformed, or a batch cannot be written
+     */
+    public int importFile(Path file, DoubleConsumer onProgress, Consumer<List<Task>> onBatch) throws IOException {
+        long size = Math.max(1, Files.size(file));
+        CountingInputStream input = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        boolean json = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+
+        int imported = 0;
+        try (RecordReader records = json ? new JsonRecordReader(reader, "tasks") : new CsvRecordReader(reader)) {
+            List<Map<String, String>> batch = new ArrayList<>(BATCH_SIZE);
+            for (Map<String, String> record = records.next(); record != null; record = records.next()) {
+                if (description(record) == null) continue;
+                batch.add(record);
+                if (batch.size() == BATCH_SIZE) {
+                    imported += writeBatch(batch, onBatch);
+                    batch.clear();
+                    onProgress.accept(Math.min(1.0, input.count / (double) size));
+                }
+            }
+            imported += writeBatch(batch, onBatch);
+            onProgress.accept(1.0);
+        }
+        return imported;
+    }
+
+    /**
+     * Turns a batch of records into tasks with reserved IDs and backlog ranks and writes them.
+     *
+     * @return Number of tasks written
+     * @throws IOException If the batch cannot be written
+     */
+    private int writeBatch(List<Map<String, String>> batch, Consumer<List<Task>> onBatch) throws IOException {
+        if (batch.isEmpty()) return 0;
+
+        int id = taskRepository.reserveTaskIds(batch.size());
+        if (id < 0) throw new IOException("Could not reserve task IDs");
+        double rank = taskRepository.reserveBacklogRanks(batch.size());
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (Map<String, String> record : batch) {
+            tasks.add(new Task(id++, description(record), "BACKLOG", priority(record), dueDate(record), 0, rank, null));
+            rank += TaskModel.RANK_STEP;
+        }
+        if (!taskRepository.writeImported(tasks)) {
+            throw new IOException("Could not write imported tasks");
+        }
+        onBatch.accept(tasks);
+        return tasks.size();
+    }
+
+    /**
+     * @return Trimmed description of a record, or null if it has none
+     */
+    private static String description(Map<String, String> record) {
+        String description = first(record, "description", "title", "summary", "name");
+        return description == null || description.isBlank() ? null : description.trim();
+    }
+
+    /**
+     * @return Priority of a record, 0 = low to 2 = high, low if missing or unknown
+     */
+    private static int priority(Map<String, String> record) {
+        String priority = first(record, "priority");
+        if (priority == null) return 0;
+        switch (priority.trim().toLowerCase(Locale.ROOT)) {
+            case "2", "high" -> { return 2; }
+            case "1", "medium" -> { return 1; }
+            default -> { return 0; }
+        }
+    }
+
+    /**
+     * @return Due date of a record as yyyy-MM-dd, or null if missing or invalid.
+     *         Timestamps such as 2026-10-30T07:00:00Z keep their date.
+     */
+    private static String dueDate(Map<String, String> record) {
+        String due = first(record, "duedate", "due_date", "due", "due_on");
+        if (due == null || due.trim().length() < 10) return null;
+        try {
+            return LocalDate.parse(due.trim().substring(0, 10)).toString();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return Value of the first of the fields present, or null
+     */
+    private static String first(Map<String, String> record, String... fields) {
+        for (String field : fields) {
+            String value = record.get(field);
+            if (value != null) return value;
+        }
+        return null;
+    }
+
+    /**
+     * Counts the bytes read, to report progress through the file.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private volatile long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
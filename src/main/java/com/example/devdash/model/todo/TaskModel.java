@@ -4,6 +4,7 @@ import com.example.devdash.helper.data.SqliteConnection;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,10 +12,13 @@ import java.util.List;
  * Manages logic of Tasks within the database.
  *
  * Author: Alexander Sukhin
- * Version: 04/08/2025
+ * Version: 19/10/2026
  */
 public class TaskModel {
 
+    /** Gap between the ranks of neighbouring tasks when a column is numbered afresh. */
+    public static final double RANK_STEP = 1024;
+
     Connection connection;
 
     /**
@@ -22,197 +26,181 @@ public class TaskModel {
      */
     public TaskModel() {
         connection = SqliteConnection.Connector();
+        createRankColumn();
     }
 
     /**
-     * Adds a new task for the given user.
+     * Constructor for a model on a connection of its own, e.g. the write-behind writer's.
+     * The tables must already have been set up through the shared connection.
      *
-     * @param userID      ID of the user
-     * @param description Task description
-     * @param status
-     * @return True if insertion succeeds, false otherwise
+     * @param connection Connection to use
      */
-    public boolean addTask(int userID, String description, String status, int priority, String dueDate) {
-        String sql = "INSERT INTO Task (userId, description, status , priority, dueDate) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, userID);
-            stmt.setString(2, description);
-            stmt.setString(3, status);
-            stmt.setInt(4, priority);
-            stmt.setString(5, dueDate);
-
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        }
+    TaskModel(Connection connection) {
+        this.connection = connection;
     }
 
     /**
-     * Updates an existing task in the database.
-     *
-     * @param id          Task's id
-     * @param description New task description
-     * @param status      New task status
-     * @param priority    New priority
-     * @param dueDate     New due date (nullable)
-     * @return True if the update succeeds, false otherwise
+     * Adds the rank column ordering tasks within their column if it does not exist yet,
+     * numbering existing tasks in their previous priority order, and indexes it for
+     * reading a column in order.
      */
-    public boolean updateTask(int id, String description, String status, int priority, String dueDate) {
-        String sql = "UPDATE Task SET description = ?, status = ?, priority = ?, dueDate = ? WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, description);
-            stmt.setString(2, status);
-            stmt.setInt(3, priority);
-            stmt.setString(4, dueDate);
-            stmt.setInt(5, id);
-
-            int affectedRows = stmt.executeUpdate();
-            return affectedRows > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        }
-    }
+    private void createRankColumn() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            boolean tableExists = false;
+            boolean rankExists = false;
+            try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(Task)")) {
+                while (rs.next()) {
+                    tableExists = true;
+                    if (rs.getString("name").equalsIgnoreCase("rank")) rankExists = true;
+                }
+            }
+            if (!tableExists) return;
 
-    /**
-     * Updates the updatedAt timestamp of a task to the current time.
-     *
-     * @param taskID ID of the task to update
-     * @return True if the update succeeds, false otherwise
-     */
-    public boolean updateTaskTimestamp(int taskID) {
-        String sql = "UPDATE Task SET updatedAt = datetime('now','localtime') WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, taskID);
-            int affectedRows = stmt.executeUpdate();
-            return affectedRows > 0;
+            if (!rankExists) {
+                stmt.executeUpdate("ALTER TABLE Task ADD COLUMN rank REAL NOT NULL DEFAULT 0");
+                stmt.executeUpdate("UPDATE Task SET rank = (SELECT r.rank FROM ("
+                        + "SELECT id, ROW_NUMBER() OVER (PARTITION BY userId, sprintId, status "
+                        + "ORDER BY priority DESC, id) * " + RANK_STEP + " AS rank FROM Task) r WHERE r.id = Task.id)");
+            }
+            stmt.executeUpdate("CREATE INDEX IF NOT EXISTS idx_Task_sprintId_status_rank ON Task (sprintId, status, rank)");
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
         }
     }
 
     /**
-     * Deletes a task by its ID.
+     * Gets all tasks of a user, in the backlog or in any sprint.
      *
-     * @param taskID ID of the task to delete
-     * @return True if delete succeeds, false otherwise
+     * @param userID ID of the user
+     * @return List of tasks including their sprint
      */
-    public boolean deleteTask(int taskID) {
-        String sql = "DELETE FROM Task WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, taskID);
-
-            int affectedRows = stmt.executeUpdate();
+    public List<Task> getTasksForUser(int userID) {
+        String sql = "SELECT * FROM Task WHERE userId = ?";
+        List<Task> tasks = new ArrayList<>();
 
-            return affectedRows > 0;
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, userID);
+            try (ResultSet resultSet = stmt.executeQuery()) {
+                while (resultSet.next()) {
+                    tasks.add(new Task(
+                            resultSet.getInt("id"),
+                            resultSet.getString("description"),
+                            resultSet.getString("status"),
+                            resultSet.getInt("priority"),
+                            resultSet.getString("dueDate"),
+                            resultSet.getInt("sprintId"), // NULL reads as 0
+                            resultSet.getDouble("rank"),
+                            resultSet.getString("updatedAt")
+                    ));
+                }
+            }
         } catch (SQLException e) {
             e.printStackTrace();
-            return false;
         }
+
+        return tasks;
     }
 
     /**
-     * Updates the status of a task.
+     * Inserts tasks with their IDs already assigned. Runs in the caller's transaction.
      *
-     * @param taskID ID of the task to update
-     * @param status New status of the task
+     * @param userID ID of the user
+     * @param tasks  Tasks to insert
+     * @throws SQLException If the insert fails
      */
-    public void updateTaskStatus(int taskID, String status) {
-        String sql = "UPDATE Task SET status = ? WHERE id = ?";
+    void insertTasks(int userID, Collection<Task> tasks) throws SQLException {
+        if (tasks.isEmpty()) return;
+        String sql = "INSERT INTO Task (id, userId, description, status, priority, dueDate, sprintId, rank, updatedAt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, status);
-            stmt.setInt(2, taskID);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            e.printStackTrace();
+            for (Task task : tasks) {
+                stmt.setInt(1, task.getId());
+                stmt.setInt(2, userID);
+                bindDetails(stmt, 3, task);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
         }
     }
 
     /**
-     * Assigns a task to a sprint.
+     * Writes the current state of existing tasks. Runs in the caller's transaction.
+     *
+     * @param tasks Tasks to update
+     * @throws SQLException If the update fails
      */
-    public boolean assignTaskToSprint(int taskID, int sprintID) {
-        String sql = "UPDATE Task SET sprintId = ? WHERE id = ?";
+    void updateTasks(Collection<Task> tasks) throws SQLException {
+        if (tasks.isEmpty()) return;
+        String sql = "UPDATE Task SET description = ?, status = ?, priority = ?, dueDate = ?, sprintId = ?, rank = ?, "
+                + "updatedAt = ? WHERE id = ?";
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, sprintID);
-            stmt.setInt(2, taskID);
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
+            for (Task task : tasks) {
+                bindDetails(stmt, 1, task);
+                stmt.setInt(8, task.getId());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
         }
     }
 
     /**
-     * Removes a task from its sprint (moves it back to backlog).
+     * Writes the new status, sprint, rank and update time of moved tasks, leaving
+     * their other details alone. Runs in the caller's transaction.
+     *
+     * @param tasks Tasks in their new placement
+     * @throws SQLException If the update fails
      */
-    public boolean removeTaskFromSprint(int taskID) {
-        String sql = "UPDATE Task SET sprintId = NULL WHERE id = ?";
+    void moveTasks(Collection<Task> tasks) throws SQLException {
+        if (tasks.isEmpty()) return;
+        String sql = "UPDATE Task SET status = ?, sprintId = ?, rank = ?, updatedAt = ? WHERE id = ?";
         try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, taskID);
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
+            for (Task task : tasks) {
+                stmt.setString(1, task.getStatus());
+                if (task.getSprintId() != 0) stmt.setInt(2, task.getSprintId());
+                else stmt.setNull(2, Types.INTEGER);
+                stmt.setDouble(3, task.getRank());
+                stmt.setString(4, task.getUpdatedAt());
+                stmt.setInt(5, task.getId());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
         }
     }
 
     /**
-     * Gets all tasks for a given sprint.
+     * Deletes tasks by ID. Runs in the caller's transaction.
+     *
+     * @param taskIDs IDs of the tasks to delete
+     * @throws SQLException If the delete fails
      */
-    public List<Task> getTasksForSprint(int sprintID) {
-        String sql = "SELECT * FROM Task WHERE sprintId = ? ORDER BY priority DESC";
-        List<Task> tasks = new ArrayList<>();
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, sprintID);
-            try (ResultSet resultSet = stmt.executeQuery()) {
-                while (resultSet.next()) {
-                    tasks.add(new Task(
-                            resultSet.getInt("id"),
-                            resultSet.getString("description"),
-                            resultSet.getString("status"),
-                            resultSet.getInt("priority"),
-                            resultSet.getString("dueDate"),
-                            resultSet.getString("updatedAt")
-                    ));
-                }
+    void deleteTasks(Collection<Integer> taskIDs) throws SQLException {
+        if (taskIDs.isEmpty()) return;
+        try (PreparedStatement stmt = connection.prepareStatement("DELETE FROM Task WHERE id = ?")) {
+            for (int id : taskIDs) {
+                stmt.setInt(1, id);
+                stmt.addBatch();
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
+            stmt.executeBatch();
         }
-
-        return tasks;
     }
 
     /**
-     * Gets all backlog tasks (not in any sprint).
+     * Binds description, status, priority, due date, sprint, rank and update time from the given index.
+     *
+     * @param stmt  Statement to bind
+     * @param index Index of the description parameter
+     * @param task  Task to bind
+     * @throws SQLException If binding fails
      */
-    public List<Task> getBacklogTasks(int userID) {
-        String sql = "SELECT * FROM Task WHERE userId = ? AND sprintId IS NULL ORDER BY priority DESC";
-        List<Task> tasks = new ArrayList<>();
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setInt(1, userID);
-            try (ResultSet resultSet = stmt.executeQuery()) {
-                while (resultSet.next()) {
-                    tasks.add(new Task(
-                            resultSet.getInt("id"),
-                            resultSet.getString("description"),
-                            resultSet.getString("status"),
-                            resultSet.getInt("priority"),
-                            resultSet.getString("dueDate"),
-                            resultSet.getString("updatedAt")
-                    ));
-                }
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
-
-        return tasks;
+    private void bindDetails(PreparedStatement stmt, int index, Task task) throws SQLException {
+        stmt.setString(index, task.getDescription());
+        stmt.setString(index + 1, task.getStatus());
+        stmt.setInt(index + 2, task.getPriority());
+        stmt.setString(index + 3, task.getDueDate().isEmpty() ? null : task.getDueDate());
+        if (task.getSprintId() != 0) stmt.setInt(index + 4, task.getSprintId());
+        else stmt.setNull(index + 4, Types.INTEGER);
+        stmt.setDouble(index + 5, task.getRank());
+        stmt.setString(index + 6, task.getUpdatedAt());
     }
-
 }
@@ -0,0 +1,579 @@
+package com.example.devdash.model.todo;
+
+import com.example.devdash.helper.data.BackgroundTasks;
+import com.example.devdash.helper.data.SqliteConnection;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * In-memory repository of a user's tasks and sprints.
+ * Everything is loaded once and indexed by id, and tasks are also kept in
+ * observable lists per sprint and status (and one for the backlog), sorted by
+ * rank, which the kanban columns bind to directly. Changes apply to memory
+ * at once and are persisted in the background by a TaskWriter.
+ * Ranks are fractional: a task moved between two others gets a rank between
+ * theirs, so a move writes one row. Only when two neighbours' ranks get too
+ * close is their column renumbered. Every creation, status or sprint change,
+ * completion and deletion is also logged as a TaskEvent, written with the change.
+ * Must be used from the JavaFX application thread.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskRepository {
+
+    public static final List<String> SPRINT_STATUSES = List.of("TODO", "IN_PROGRESS", "DONE");
+
+    private static final Comparator<Task> BY_RANK =
+            Comparator.comparingDouble(Task::getRank).thenComparingInt(Task::getId);
+
+    // Below this gap, midpoints lose precision and the column is renumbered
+    private static final double MIN_RANK_GAP = 1e-6;
+
+    // IDs are reserved from the database this many at a time
+    private static final int ID_BLOCK = 32;
+
+    private static final Map<Integer, TaskRepository> REPOSITORIES = new HashMap<>();
+
+    private final int userID;
+    private final TaskWriter writer;
+    private final TaskEventModel eventModel;
+    private final IdSequence ids;
+    private final Map<Integer, Task> tasks = new HashMap<>();
+    private final ObservableList<Task> backlog = FXCollections.observableArrayList();
+    private final Map<Integer, Map<String, ObservableList<Task>>> sprintColumns = new HashMap<>();
+    private final ObservableList<Sprint> sprints = FXCollections.observableArrayList();
+    private final IdBlock taskIds = new IdBlock(IdSequence.TASK);
+    private final IdBlock sprintIds = new IdBlock(IdSequence.SPRINT);
+
+    // Highest rank given out at the end of the backlog, including ranks reserved
+    // by imports whose tasks have not reached the backlog yet
+    private double backlogEndRank;
+
+    /**
+     * IDs reserved from a database sequence but not handed out yet. Once half the
+     * block is used, the next one is reserved in the background, so the JavaFX thread
+     * only waits for the database if IDs run out faster than they can be reserved.
+     */
+    private final class IdBlock {
+        private final String sequence;
+        private int next;
+        private int left;
+        private CompletableFuture<Integer> nextBlock; // First ID of the block being reserved
+
+        private IdBlock(String sequence) {
+            this.sequence = sequence;
+        }
+
+        /**
+         * @return Next ID, or -1 if no more could be reserved
+         */
+        private int take() {
+            if (left == 0) {
+                int first = -1;
+                if (nextBlock != null && nextBlock.isDone()) {
+                    first = nextBlock.join();
+                    nextBlock = null;
+                }
+                if (first < 0) first = ids.reserve(sequence, ID_BLOCK);
+                if (first < 0) return -1;
+                next = first;
+                left = ID_BLOCK;
+            }
+            if (--left <= ID_BLOCK / 2) prefetch();
+            return next++;
+        }
+
+        /**
+         * Starts reserving the next block in the background unless that is already under way.
+         */
+        private void prefetch() {
+            if (nextBlock != null) return;
+            try {
+                nextBlock = CompletableFuture.supplyAsync(() -> ids.reserve(sequence, ID_BLOCK), BackgroundTasks.workers());
+            } catch (RejectedExecutionException e) {
+                // The workers are busy; the next ID taken tries again
+            }
+        }
+    }
+
+    /**
+     * Returns the repository of a user, loading it on first use.
+     *
+     * @param userID ID of the user
+     * @return The user's TaskRepository
+     */
+    public static synchronized TaskRepository forUser(int userID) {
+        return REPOSITORIES.computeIfAbsent(userID, TaskRepository::new);
+    }
+
+    /**
+     * Writes every repository's pending changes, e.g. before the application exits.
+     */
+    public static synchronized void flushAll() {
+        REPOSITORIES.values().forEach(repository -> repository.writer.flush());
+    }
+
+    /**
+     * @param onWriteFailed Receives a message, on a background thread, when changes
+     *                      could not be saved and were dropped
+     */
+    public void setOnWriteFailed(Consumer<String> onWriteFailed) {
+        writer.setOnWriteFailed(onWriteFailed);
+    }
+
+    /**
+     * Writes this repository's pending changes now, e.g. before querying the database.
+     * Can be called from any thread.
+     */
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Constructor loads the user's tasks and sprints.
+     *
+     * @param userID ID of the user
+     */
+    private TaskRepository(int userID) {
+        TaskModel taskModel = new TaskModel();
+        SprintModel sprintModel = new SprintModel();
+        this.userID = userID;
+        this.eventModel = new TaskEventModel();
+        this.writer = new TaskWriter(userID);
+        // IDs are reserved on a connection of their own, never waiting for the writer's lock
+        this.ids = new IdSequence(SqliteConnection.open());
+        taskIds.prefetch();
+        sprintIds.prefetch();
+
+        sprints.setAll(sprintModel.getSprintsForUser(userID));
+        List<Task> loaded = taskModel.getTasksForUser(userID);
+        loaded.sort(BY_RANK);
+        for (Task task : loaded) {
+            tasks.put(task.getId(), task);
+            listFor(task).add(task);
+        }
+        backlogEndRank = backlog.isEmpty() ? 0 : backlog.get(backlog.size() - 1).getRank();
+    }
+
+    /**
+     * @return Observable tasks not in any sprint, in rank order
+     */
+    public ObservableList<Task> getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * @param sprintId Sprint ID
+     * @param status   TODO, IN_PROGRESS or DONE
+     * @return Observable tasks of the sprint with the status, in rank order
+     */
+    public ObservableList<Task> getColumn(int sprintId, String status) {
+        return columnsOf(sprintId).get(status);
+    }
+
+    /**
+     * @param sprintId Sprint ID
+     * @return All tasks of the sprint, by status then rank
+     */
+    public List<Task> getTasksForSprint(int sprintId) {
+        List<Task> sprintTasks = new ArrayList<>();
+        for (String status : SPRINT_STATUSES) sprintTasks.addAll(getColumn(sprintId, status));
+        return sprintTasks;
+    }
+
+    /**
+     * @param taskId Task ID
+     * @return The task, or null if there is none with the ID
+     */
+    public Task getTask(int taskId) {
+        return tasks.get(taskId);
+    }
+
+    /**
+     * Computes a sprint's burndown from the daily counters, after writing pending changes.
+     * Blocks on the database, so it should run in the background.
+     *
+     * @param sprint Sprint with start and end dates
+     * @return Tasks remaining per day, in date order
+     */
+    public LinkedHashMap<LocalDate, Integer> getBurndown(Sprint sprint) {
+        writer.flush();
+        return eventModel.getBurndown(sprint);
+    }
+
+    /**
+     * Gets the velocity of the user's most recent sprints, after writing pending changes.
+     * Blocks on the database, so it should run in the background.
+     *
+     * @param limit Maximum number of sprints
+     * @return Tasks completed per sprint, oldest first
+     */
+    public List<TaskEventModel.SprintVelocity> getVelocity(int limit) {
+        writer.flush();
+        return eventModel.getVelocity(userID, limit);
+    }
+
+    /**
+     * Gets how many tasks the user completed on each of the last days, after writing
+     * pending changes. Blocks on the database, so it should run in the background.
+     *
+     * @param days Number of days before today to include
+     * @return Tasks completed per day, oldest first; empty if there is no history
+     */
+    public int[] getDailyThroughput(int days) {
+        writer.flush();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        return eventModel.getDailyThroughput(userID, yesterday.minusDays(days - 1), yesterday);
+    }
+
+    /**
+     * @return Observable sprints of the user
+     */
+    public ObservableList<Sprint> getSprints() {
+        return sprints;
+    }
+
+    /**
+     * Adds a new task to the end of the backlog.
+     *
+     * @param description Task description
+     * @param status      Task status
+     * @param priority    Task priority
+     * @param dueDate     Due date as yyyy-MM-dd, or null
+     * @return The new task, or null if no ID could be reserved for it
+     */
+    public Task addTask(String description, String status, int priority, String dueDate) {
+        int id = taskIds.take();
+        if (id < 0) return null;
+        Task task = new Task(id, description, status, priority, dueDate, 0, endRank(backlog), null);
+        tasks.put(task.getId(), task);
+        insertSorted(listFor(task), task);
+        writer.insertTask(task);
+        writer.logEvent(TaskEvent.created(task));
+        return task;
+    }
+
+    /**
+     * Creates an importer adding tasks to the end of the backlog.
+     *
+     * @return TaskImporter for one import
+     */
+    public TaskImporter createImporter() {
+        return new TaskImporter(this);
+    }
+
+    /**
+     * Creates an exporter writing the user's tasks and sprints.
+     *
+     * @return TaskExporter
+     */
+    public TaskExporter createExporter() {
+        return new TaskExporter(this, userID);
+    }
+
+    /**
+     * Reserves a block of task IDs, e.g. for a batch of imported tasks.
+     * Can be called from any thread.
+     *
+     * @param count Number of IDs
+     * @return First ID of the block, or -1 if none could be reserved
+     */
+    int reserveTaskIds(int count) {
+        return ids.reserve(IdSequence.TASK, count);
+    }
+
+    /**
+     * Reserves ranks at the end of the backlog for a batch of imported tasks, so
+     * tasks added while the batch is being written are placed after it.
+     * Can be called from any thread.
+     *
+     * @param count Number of ranks
+     * @return First rank; the others follow it RANK_STEP apart
+     */
+    synchronized double reserveBacklogRanks(int count) {
+        double first = backlogEndRank + TaskModel.RANK_STEP;
+        backlogEndRank += count * TaskModel.RANK_STEP;
+        return first;
+    }
+
+    /**
+     * Writes a batch of imported tasks in a transaction of its own.
+     * Can be called from any thread, and blocks until done.
+     *
+     * @param imported New tasks with reserved IDs
+     * @return True if the batch was committed
+     */
+    boolean writeImported(List<Task> imported) {
+        return writer.insertImported(imported);
+    }
+
+    /**
+     * Adds tasks that have already been written to the database, e.g. by an import.
+     *
+     * @param imported Tasks in rank order
+     */
+    public void addImported(List<Task> imported) {
+        for (Task task : imported) tasks.put(task.getId(), task);
+        boolean atEnd = backlog.isEmpty() || imported.isEmpty()
+                || imported.get(0).getRank() >= backlog.get(backlog.size() - 1).getRank();
+        if (atEnd && imported.stream().allMatch(task -> task.getSprintId() == 0)) {
+            backlog.addAll(imported); // One change for the whole batch
+        } else {
+            for (Task task : imported) insertSorted(listFor(task), task);
+        }
+    }
+
+    /**
+     * Edits the details of a task. A task edited into another column goes to its end.
+     *
+     * @param taskId      Task ID
+     * @param description New description
+     * @param status      New status
+     * @param priority    New priority
+     * @param dueDate     New due date, or null
+     * @param sprintId    Sprint the task belongs to, or 0 for the backlog
+     */
+    public void updateTask(int taskId, String description, String status, int priority, String dueDate, int sprintId) {
+        Task task = tasks.get(taskId);
+        if (task == null) return;
+
+        Task updated = task.withDetails(description, status, priority, dueDate, sprintId);
+        ObservableList<Task> newList = listFor(updated);
+        if (newList != listFor(task)) updated = updated.withRank(endRank(newList));
+        replace(task, updated);
+        writer.updateTask(updated);
+        writer.logEvent(TaskEvent.between(task, updated));
+    }
+
+    /**
+     * Moves a task to the end of a status and sprint.
+     *
+     * @param taskId   Task ID
+     * @param status   New status
+     * @param sprintId Sprint the task belongs to, or 0 for the backlog
+     * @return The moved task, or null if there is none with the ID
+     */
+    public Task moveTask(int taskId, String status, int sprintId) {
+        return moveTask(taskId, status, sprintId, null);
+    }
+
+    /**
+     * Moves a task to a status and sprint, just before another task, e.g. when it
+     * is dropped on a column. The move shows at once and the task is returned in its
+     * new state, so nothing is queried back. It is persisted by a single UPDATE of its
+     * placement in the writer's next transaction, along with the new ranks of its
+     * column if the column first has to be renumbered.
+     *
+     * @param taskId   Task ID
+     * @param status   New status
+     * @param sprintId Sprint the task belongs to, or 0 for the backlog
+     * @param next     Task to place it before, or null for the end of the column
+     * @return The moved task, or null if there is none with the ID
+     */
+    public Task moveTask(int taskId, String status, int sprintId, Task next) {
+        Task task = tasks.get(taskId);
+        if (task == null || task == next) return task;
+
+        ObservableList<Task> target = listFor(task.withPlacement(status, sprintId, 0));
+        if (target == listFor(task)) {
+            int index = target.indexOf(task);
+            Task currentNext = index + 1 < target.size() ? target.get(index + 1) : null;
+            if (currentNext == next) return task; // Dropped where it already is
+        }
+        double rank = rankBefore(target, task, next);
+        task = tasks.get(taskId); // Renumbering the column may have replaced it
+
+        Task moved = task.withPlacement(status, sprintId, rank);
+        replace(task, moved);
+        writer.moveTask(moved);
+        writer.logEvent(TaskEvent.between(task, moved));
+        return moved;
+    }
+
+    /**
+     * Deletes a task.
+     *
+     * @param taskId Task ID
+     * @return True if the task existed
+     */
+    public boolean deleteTask(int taskId) {
+        Task task = tasks.remove(taskId);
+        if (task == null) return false;
+        listFor(task).remove(task);
+        writer.deleteTask(task);
+        writer.logEvent(TaskEvent.deleted(task));
+        return true;
+    }
+
+    /**
+     * Adds a new sprint.
+     *
+     * @param name      Sprint name
+     * @param startDate Start date
+     * @param endDate   End date
+     * @return The new sprint, or null if no ID could be reserved for it
+     */
+    public Sprint addSprint(String name, LocalDate startDate, LocalDate endDate) {
+        int id = sprintIds.take();
+        if (id < 0) return null;
+        Sprint sprint = new Sprint(id, userID, name, startDate, endDate);
+        sprints.add(sprint);
+        writer.insertSprint(sprint);
+        return sprint;
+    }
+
+    /**
+     * Finishes a sprint: tasks that are not done are carried over to the end of
+     * the backlog, done tasks are deleted, and the sprint is removed. Its history
+     * stays in the event log and sprint counters.
+     *
+     * @param sprintId Sprint ID
+     */
+    public void finishSprint(int sprintId) {
+        for (Task task : getTasksForSprint(sprintId)) {
+            if (task.getStatus().equals("DONE")) {
+                deleteTask(task.getId());
+            } else {
+                Task carried = task.withPlacement("BACKLOG", 0, endRank(backlog));
+                replace(task, carried);
+                writer.moveTask(carried);
+                writer.logEvent(TaskEvent.carriedOver(task, carried));
+            }
+        }
+
+        sprintColumns.remove(sprintId);
+        sprints.removeIf(sprint -> {
+            if (sprint.getId() != sprintId) return false;
+            writer.deleteSprint(sprint);
+            return true;
+        });
+    }
+
+    /**
+     * Returns a rank placing a task just before another in a list, renumbering
+     * the list first if there is no room left between the neighbours.
+     *
+     * @param list   List the task is moved into
+     * @param moving Task being moved, which may already be in the list
+     * @param next   Task to place it before, or null for the end of the list
+     * @return Rank for the moved task
+     */
+    private double rankBefore(ObservableList<Task> list, Task moving, Task next) {
+        int nextIndex = next != null ? list.indexOf(next) : -1;
+        if (nextIndex < 0) return endRank(list, moving);
+
+        int prevIndex = nextIndex - 1;
+        if (prevIndex >= 0 && list.get(prevIndex) == moving) prevIndex--;
+        if (prevIndex < 0) return list.get(nextIndex).getRank() - TaskModel.RANK_STEP;
+
+        double prev = list.get(prevIndex).getRank();
+        double nextRank = list.get(nextIndex).getRank();
+        if (nextRank - prev < MIN_RANK_GAP) {
+            renumber(list);
+            prev = list.get(prevIndex).getRank();
+            nextRank = list.get(nextIndex).getRank();
+        }
+        return prev + (nextRank - prev) / 2;
+    }
+
+    /**
+     * @param list List sorted by rank
+     * @return Rank placing a task at the end of the list
+     */
+    private double endRank(ObservableList<Task> list) {
+        return endRank(list, null);
+    }
+
+    /**
+     * @param list   List sorted by rank
+     * @param moving Task being moved, ignored if it is last
+     * @return Rank placing a task at the end of the list, and for the backlog
+     *         also after the ranks reserved by imports
+     */
+    private double endRank(ObservableList<Task> list, Task moving) {
+        int last = list.size() - 1;
+        if (last >= 0 && list.get(last) == moving) last--;
+        double rank = last >= 0 ? list.get(last).getRank() + TaskModel.RANK_STEP : TaskModel.RANK_STEP;
+        if (list != backlog) return rank;
+        synchronized (this) {
+            backlogEndRank = Math.max(rank, backlogEndRank + TaskModel.RANK_STEP);
+            return backlogEndRank;
+        }
+    }
+
+    /**
+     * Gives the tasks of a list evenly spaced ranks in their current order.
+     * Keeps their update times, as only their positions are written.
+     *
+     * @param list List sorted by rank
+     */
+    private void renumber(ObservableList<Task> list) {
+        for (int i = 0; i < list.size(); i++) {
+            Task renumbered = list.get(i).withRank((i + 1) * TaskModel.RANK_STEP);
+            tasks.put(renumbered.getId(), renumbered);
+            list.set(i, renumbered);
+            writer.moveTask(renumbered);
+        }
+    }
+
+    /**
+     * Replaces a task with its new state in memory, moving it between lists if needed.
+     *
+     * @param oldTask Current task
+     * @param newTask New state of the task
+     */
+    private void replace(Task oldTask, Task newTask) {
+        tasks.put(newTask.getId(), newTask);
+
+        ObservableList<Task> oldList = listFor(oldTask);
+        ObservableList<Task> newList = listFor(newTask);
+        int index = oldList.indexOf(oldTask);
+        if (oldList == newList && index >= 0 && oldTask.getRank() == newTask.getRank()) {
+            oldList.set(index, newTask);
+        } else {
+            oldList.remove(oldTask);
+            insertSorted(newList, newTask);
+        }
+    }
+
+    /**
+     * @param task Task
+     * @return The list the task belongs in
+     */
+    private ObservableList<Task> listFor(Task task) {
+        if (task.getSprintId() == 0) return backlog;
+        ObservableList<Task> column = columnsOf(task.getSprintId()).get(task.getStatus());
+        // A sprint task with an unknown status is still kept, in the first column
+        return column != null ? column : columnsOf(task.getSprintId()).get(SPRINT_STATUSES.get(0));
+    }
+
+    /**
+     * @param sprintId Sprint ID
+     * @return Columns of the sprint by status, created on first use
+     */
+    private Map<String, ObservableList<Task>> columnsOf(int sprintId) {
+        return sprintColumns.computeIfAbsent(sprintId, id -> {
+            Map<String, ObservableList<Task>> columns = new HashMap<>();
+            for (String status : SPRINT_STATUSES) columns.put(status, FXCollections.observableArrayList());
+            return columns;
+        });
+    }
+
+    /**
+     * Inserts a task at its place in a list sorted by rank.
+     *
+     * @param list List sorted by rank
+     * @param task Task to insert
+     */
+    private static void insertSorted(ObservableList<Task> list, Task task) {
+        int index = Collections.binarySearch(list, task, BY_RANK);
+        list.add(index < 0 ? -index - 1 : index, task);
+    }
+}
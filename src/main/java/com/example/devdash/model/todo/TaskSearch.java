@@ -0,0 +1,87 @@
+package com.example.devdash.model.todo;
+
+import com.example.devdash.helper.data.FtsQuery;
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.sql.*;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Full-text search over task descriptions, using an SQLite FTS5 index
+ * kept in sync with the Task table by triggers. Each word typed is matched
+ * as a prefix, as in the commit search.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskSearch {
+
+    private final Connection connection;
+
+    /**
+     * Constructor for the search. Creates the index on first use.
+     */
+    public TaskSearch() {
+        connection = SqliteConnection.Connector();
+        createSearchIndex();
+    }
+
+    /**
+     * Finds the tasks of a user whose description matches every word of the text.
+     *
+     * @param text   Text typed by the user
+     * @param userID ID of the user
+     * @return IDs of the matching tasks
+     */
+    public Set<Integer> search(String text, int userID) {
+        String match = FtsQuery.prefixMatch(text);
+        if (connection == null || match.isEmpty()) return Collections.emptySet();
+
+        String sql = "SELECT s.rowid AS id FROM TaskSearch s JOIN Task t ON t.id = s.rowid "
+                + "WHERE TaskSearch MATCH ? AND t.userId = ?";
+
+        Set<Integer> ids = new HashSet<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setString(1, match);
+            stmt.setInt(2, userID);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) ids.add(rs.getInt("id"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        return ids;
+    }
+
+    /**
+     * Creates the full-text index over task descriptions if it does not exist yet.
+     * The index shares the task IDs as rowids, and triggers keep it in sync with
+     * every insert, description change and delete. Existing tasks are indexed once
+     * when it is created. Prefix indexes make short typed prefixes cheap to match.
+     */
+    private void createSearchIndex() {
+        if (connection == null) return;
+        try (Statement stmt = connection.createStatement()) {
+            boolean exists;
+            try (ResultSet rs = stmt.executeQuery(
+                    "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = 'TaskSearch'")) {
+                exists = rs.next();
+            }
+            if (exists) return;
+
+            stmt.executeUpdate("CREATE VIRTUAL TABLE TaskSearch USING fts5("
+                    + "description, tokenize = 'unicode61 remove_diacritics 2', prefix = '2 3')");
+            stmt.executeUpdate("CREATE TRIGGER IF NOT EXISTS Task_search_insert AFTER INSERT ON Task BEGIN "
+                    + "INSERT INTO TaskSearch (rowid, description) VALUES (new.id, new.description); END");
+            stmt.executeUpdate("CREATE TRIGGER IF NOT EXISTS Task_search_update AFTER UPDATE OF description ON Task BEGIN "
+                    + "UPDATE TaskSearch SET description = new.description WHERE rowid = new.id; END");
+            stmt.executeUpdate("CREATE TRIGGER IF NOT EXISTS Task_search_delete AFTER DELETE ON Task BEGIN "
+                    + "DELETE FROM TaskSearch WHERE rowid = old.id; END");
+            stmt.executeUpdate("INSERT INTO TaskSearch (rowid, description) SELECT id, description FROM Task");
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.example.devdash.model.todo;
+
+import com.example.devdash.helper.data.BackgroundTasks;
+import com.example.devdash.helper.data.SqliteConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Persists task and sprint changes in the background (write-behind).
+ * Changes are queued per task or sprint and coalesced, so only the latest
+ * state of each is written, and after a short delay everything queued is
+ * written in a single transaction. A task that was only moved is written
+ * with a move statement that leaves its other details alone. Task events
+ * are not coalesced: every one is appended to the event log in the same transaction
+ * as the row changes. A failed batch is queued again behind any newer changes and
+ * retried, backing off, a few times. If it still fails, its changes are written one
+ * row at a time, so a single bad row cannot hold back every later change; rows that
+ * fail even alone are dropped and reported. The writer has a database connection of its own, so
+ * its transactions never include writes other models make on the shared connection.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class TaskWriter {
+
+    private static final long FLUSH_DELAY_MILLIS = 250;
+    private static final int MAX_BATCH_ATTEMPTS = 4;
+
+    private final Connection connection;
+    private final TaskModel taskModel;
+    private final SprintModel sprintModel;
+    private final TaskEventModel eventModel;
+    private final int userID;
+    private final Object flushLock = new Object();
+    private Map<Integer, Write<Task>> pendingTasks = new LinkedHashMap<>();
+    private Map<Integer, Write<Sprint>> pendingSprints = new LinkedHashMap<>();
+    private List<TaskEvent> pendingEvents = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private int failedAttempts; // Consecutive failures of the queued changes, guarded by flushLock
+    private volatile Consumer<String> onWriteFailed = message -> {};
+
+    /**
+     * Kind of change queued for a row.
+     */
+    private enum Kind { INSERT, UPDATE, MOVE, DELETE }
+
+    /**
+     * The latest change queued for a row.
+     *
+     * @param <T> Task or Sprint
+     */
+    private static final class Write<T> {
+        private final Kind kind;
+        private final T value;
+
+        private Write(Kind kind, T value) {
+            this.kind = kind;
+            this.value = value;
+        }
+
+        /**
+         * Combines an older queued change with a newer one.
+         *
+         * @param older Change queued first
+         * @param newer Change queued after
+         * @return Single change with the same effect, or null if nothing needs writing
+         */
+        private static <T> Write<T> merge(Write<T> older, Write<T> newer) {
+            if (older.kind == Kind.INSERT) {
+                // A row that was never written is inserted in its latest state, or not at all
+                return newer.kind == Kind.DELETE ? null : new Write<>(Kind.INSERT, newer.value);
+            }
+            if (older.kind == Kind.UPDATE && newer.kind == Kind.MOVE) {
+                // The full row update already writes the new placement
+                return new Write<>(Kind.UPDATE, newer.value);
+            }
+            return newer;
+        }
+    }
+
+    /**
+     * Constructor for the writer. Opens its own connection, which it keeps for the session.
+     *
+     * @param userID User the tasks belong to
+     */
+    public TaskWriter(int userID) {
+        this.connection = SqliteConnection.open();
+        this.userID = userID;
+        this.taskModel = new TaskModel(connection);
+        this.sprintModel = new SprintModel(connection);
+        this.eventModel = new TaskEventModel(connection);
+    }
+
+    /**
+     * @param onWriteFailed Receives a message, on a background thread, when changes had to be dropped
+     */
+    public void setOnWriteFailed(Consumer<String> onWriteFailed) {
+        this.onWriteFailed = onWriteFailed;
+    }
+
+    /**
+     * @param task New task to insert
+     */
+    public void insertTask(Task task) {
+        queueTask(task.getId(), new Write<>(Kind.INSERT, task));
+    }
+
+    /**
+     * @param task Latest state of a task to write
+     */
+    public void updateTask(Task task) {
+        queueTask(task.getId(), new Write<>(Kind.UPDATE, task));
+    }
+
+    /**
+     * @param task Task in its new status, sprint and position
+     */
+    public void moveTask(Task task) {
+        queueTask(task.getId(), new Write<>(Kind.MOVE, task));
+    }
+
+    /**
+     * @param task Task to delete
+     */
+    public void deleteTask(Task task) {
+        queueTask(task.getId(), new Write<>(Kind.DELETE, task));
+    }
+
+    /**
+     * @param event Task event to append to the log
+     */
+    public synchronized void logEvent(TaskEvent event) {
+        if (event == null) return;
+        pendingEvents.add(event);
+        scheduleFlush();
+    }
+
+    /**
+     * @param sprint New sprint to insert
+     */
+    public void insertSprint(Sprint sprint) {
+        queueSprint(sprint.getId(), new Write<>(Kind.INSERT, sprint));
+    }
+
+    /**
+     * @param sprint Sprint to delete
+     */
+    public void deleteSprint(Sprint sprint) {
+        queueSprint(sprint.getId(), new Write<>(Kind.DELETE, sprint));
+    }
+
+    /**
+     * Queues a task change, coalesced with any change already queued for the task.
+     */
+    private synchronized void queueTask(int id, Write<Task> write) {
+        pendingTasks.merge(id, write, Write::merge);
+        scheduleFlush();
+    }
+
+    /**
+     * Queues a sprint change, coalesced with any change already queued for the sprint.
+     */
+    private synchronized void queueSprint(int id, Write<Sprint> write) {
+        pendingSprints.merge(id, write, Write::merge);
+        scheduleFlush();
+    }
+
+    /**
+     * Schedules a flush unless one is already due.
+     */
+    private void scheduleFlush() {
+        scheduleFlush(FLUSH_DELAY_MILLIS);
+    }
+
+    /**
+     * Schedules a flush after a delay unless one is already due.
+     *
+     * @param delayMillis Delay before the flush
+     */
+    private void scheduleFlush(long delayMillis) {
+        if (scheduledFlush != null && !scheduledFlush.isDone()) return;
+        scheduledFlush = BackgroundTasks.scheduler().schedule(
+                () -> BackgroundTasks.execute(this::flush), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes everything queued so far in one transaction. Blocks until done,
+     * so it can also be called on shutdown.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<Integer, Write<Task>> tasks;
+            Map<Integer, Write<Sprint>> sprints;
+            List<TaskEvent> events;
+            synchronized (this) {
+                tasks = pendingTasks;
+                sprints = pendingSprints;
+                events = pendingEvents;
+                pendingTasks = new LinkedHashMap<>();
+                pendingSprints = new LinkedHashMap<>();
+                pendingEvents = new ArrayList<>();
+            }
+            if (tasks.isEmpty() && sprints.isEmpty() && events.isEmpty()) return;
+            if (connection == null) return;
+
+            if (write(tasks, sprints, events)) {
+                failedAttempts = 0;
+            } else if (++failedAttempts < MAX_BATCH_ATTEMPTS) {
+                requeue(tasks, sprints, events, FLUSH_DELAY_MILLIS << failedAttempts);
+            } else {
+                failedAttempts = 0;
+                writeSeparately(tasks, sprints, events);
+            }
+        }
+    }
+
+    /**
+     * Writes a batch that keeps failing one change at a time, each task change
+     * together with its events, in the same order as a whole batch. Changes that
+     * fail even alone are dropped, and reported, so the rest are not held back.
+     */
+    private void writeSeparately(Map<Integer, Write<Task>> tasks, Map<Integer, Write<Sprint>> sprints,
+                                 List<TaskEvent> events) {
+        Map<Integer, List<TaskEvent>> eventsByTask = new LinkedHashMap<>();
+        for (TaskEvent event : events) {
+            eventsByTask.computeIfAbsent(event.getTaskId(), id -> new ArrayList<>()).add(event);
+        }
+
+        List<String> dropped = new ArrayList<>();
+        sprints.forEach((id, write) -> {
+            if (write.kind != Kind.DELETE && !write(Map.of(), Map.of(id, write), List.of())) {
+                dropped.add("sprint \"" + write.value.getName() + "\"");
+            }
+        });
+        tasks.forEach((id, write) -> {
+            List<TaskEvent> taskEvents = eventsByTask.remove(id);
+            if (!write(Map.of(id, write), Map.of(), taskEvents != null ? taskEvents : List.of())) {
+                dropped.add("task \"" + write.value.getDescription() + "\"");
+            }
+        });
+        eventsByTask.forEach((id, taskEvents) -> {
+            if (!write(Map.of(), Map.of(), taskEvents)) dropped.add("history of task " + id);
+        });
+        sprints.forEach((id, write) -> {
+            if (write.kind == Kind.DELETE && !write(Map.of(), Map.of(id, write), List.of())) {
+                dropped.add("sprint \"" + write.value.getName() + "\"");
+            }
+        });
+
+        if (!dropped.isEmpty()) {
+            onWriteFailed.accept("Could not save changes to " + String.join(", ", dropped)
+                    + ". They will be lost when DevDash closes.");
+        }
+    }
+
+    /**
+     * Writes a batch of imported tasks, with their creation events, in one transaction
+     * of its own. Blocks until done, so it should run in the background.
+     *
+     * @param tasks New tasks with IDs already assigned
+     * @return True if the batch was committed
+     */
+    public boolean insertImported(List<Task> tasks) {
+        if (connection == null) return false;
+        Map<Integer, Write<Task>> inserts = new LinkedHashMap<>();
+        List<TaskEvent> events = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            inserts.put(task.getId(), new Write<>(Kind.INSERT, task));
+            events.add(TaskEvent.created(task));
+        }
+        return write(inserts, Map.of(), events);
+    }
+
+    /**
+     * Writes a batch in one transaction. New sprints are written before the tasks
+     * that may reference them, and deleted sprints after the tasks moved out of them.
+     *
+     * @return True if the batch was committed
+     */
+    private boolean write(Map<Integer, Write<Task>> tasks, Map<Integer, Write<Sprint>> sprints, List<TaskEvent> events) {
+        synchronized (connection) {
+            try {
+                connection.setAutoCommit(false);
+                sprintModel.insertSprints(valuesOf(sprints, Kind.INSERT));
+                taskModel.insertTasks(userID, valuesOf(tasks, Kind.INSERT));
+                taskModel.updateTasks(valuesOf(tasks, Kind.UPDATE));
+                taskModel.moveTasks(valuesOf(tasks, Kind.MOVE));
+                taskModel.deleteTasks(idsOf(tasks, Kind.DELETE));
+                eventModel.insertEvents(userID, events);
+                sprintModel.deleteSprints(idsOf(sprints, Kind.DELETE));
+                connection.commit();
+                return true;
+            } catch (SQLException e) {
+                e.printStackTrace();
+                try {
+                    connection.rollback();
+                } catch (SQLException ignored) {}
+                return false;
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException ignored) {}
+            }
+        }
+    }
+
+    /**
+     * Queues a failed batch again, behind any changes made since, and retries it after a delay.
+     */
+    private synchronized void requeue(Map<Integer, Write<Task>> tasks, Map<Integer, Write<Sprint>> sprints,
+                                      List<TaskEvent> events, long delayMillis) {
+        pendingTasks = requeued(tasks, pendingTasks);
+        pendingSprints = requeued(sprints, pendingSprints);
+        events.addAll(pendingEvents);
+        pendingEvents = events;
+        scheduleFlush(delayMillis);
+    }
+
+    /**
+     * @return Failed changes with the newer changes merged on top
+     */
+    private static <T> Map<Integer, Write<T>> requeued(Map<Integer, Write<T>> failed, Map<Integer, Write<T>> newer) {
+        Map<Integer, Write<T>> merged = new LinkedHashMap<>(failed);
+        newer.forEach((id, write) -> merged.merge(id, write, Write::merge));
+        return merged;
+    }
+
+    /**
+     * @return Rows queued with the given kind of change
+     */
+    private static <T> List<T> valuesOf(Map<Integer, Write<T>> writes, Kind kind) {
+        List<T> values = new ArrayList<>();
+        for (Write<T> write : writes.values()) {
+            if (write.kind == kind) values.add(write.value);
+        }
+        return values;
+    }
+
+    /**
+     * @return IDs of rows queued with the given kind of change
+     */
+    private static <T> List<Integer> idsOf(Map<Integer, Write<T>> writes, Kind kind) {
+        List<Integer> ids = new ArrayList<>();
+        writes.forEach((id, write) -> {
+            if (write.kind == kind) ids.add(id);
+        });
+        return ids;
+    }
+}
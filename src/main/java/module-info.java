@@ -4,6 +4,7 @@ module com.example.devdash {
     requires java.sql;
     requires java.desktop;
     requires java.naming;
+    requires java.net.http;
     requires org.kordamp.ikonli.javafx;
     requires org.kohsuke.github.api;
 
@@ -0,0 +1,445 @@
+package com.example.devdash.model.github;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded stand-in for the GitHub REST API, used to exercise GitHubService
+ * without a token or network access. Serves the endpoints GitHubService relies
+ * on from synthetic repositories of configurable size, with configurable latency
+ * and rate-limit headers, and can refuse requests to simulate a rate limit.
+ *
+ * Every fifth commit is authored by another user, so author filtering is visible.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+public class FakeGitHubServer {
+
+    private static final String OTHER_AUTHOR = "someone-else";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final HttpServer server;
+    private final String login;
+    private final int repoCount;
+    private final long latencyMillis;
+    private final int rateLimit;
+    private final long[] commitTimes; // epoch seconds, newest first, shared by every repository
+    private final AtomicInteger remaining;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private volatile int retryAfterSeconds;
+    private final long rateLimitReset;
+
+    /**
+     * Creates and starts a server on an ephemeral local port.
+     *
+     * @param login          Login of the authenticated user
+     * @param repoCount      Number of synthetic repositories
+     * @param commitsPerRepo Number of commits in each repository
+     * @param latencyMillis  Artificial delay added to every response
+     * @param rateLimit      Core rate limit reported and enforced
+     * @throws IOException If the server cannot bind
+     */
+    public FakeGitHubServer(String login, int repoCount, int commitsPerRepo,
+                            long latencyMillis, int rateLimit) throws IOException {
+        this.login = login;
+        this.repoCount = repoCount;
+        this.latencyMillis = latencyMillis;
+        this.rateLimit = rateLimit;
+        this.remaining = new AtomicInteger(rateLimit);
+        this.rateLimitReset = Instant.now().getEpochSecond() + 3600;
+        this.commitTimes = generateCommitTimes(commitsPerRepo);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // Platform threads: the client blocks while holding monitors, which would pin virtual ones
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-github");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * @return Base URL to pass to GitHubService as the API endpoint
+     */
+    public String getApiUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * @return Number of requests served since start or the last reset
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return Number of requests that used rate-limit quota since start or the last reset
+     */
+    public int getQuotaUsed() {
+        return rateLimit - remaining.get();
+    }
+
+    /**
+     * Refuses the next requests that would use quota with a 429 and a Retry-After
+     * header, as GitHub does for secondary rate limits.
+     *
+     * @param count             Number of requests to refuse
+     * @param retryAfterSeconds Retry-After value sent with each refusal
+     */
+    public void throttle(int count, int retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+        throttled.set(count);
+    }
+
+    /**
+     * Resets the request counter, the remaining rate-limit quota and any throttling.
+     */
+    public void resetCounters() {
+        requestCount.set(0);
+        remaining.set(rateLimit);
+        throttled.set(0);
+    }
+
+    /**
+     * Stops the server.
+     */
+    public void stop() {
+        server.stop(0);
+    }
+
+    /**
+     * Spreads the commits evenly over the last two years, newest first.
+     *
+     * @param count Number of commits
+     * @return Commit times in epoch seconds
+     */
+    private long[] generateCommitTimes(int count) {
+        long now = Instant.now().getEpochSecond();
+        long span = 2L * 365 * 24 * 3600;
+        long step = Math.max(1, span / Math.max(1, count));
+        long[] times = new long[count];
+        for (int i = 0; i < count; i++) times[i] = now - i * step;
+        return times;
+    }
+
+    /**
+     * Routes a request to the matching endpoint.
+     *
+     * @param exchange HTTP exchange
+     * @throws IOException If the response cannot be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            if (latencyMillis > 0) Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String[] parts = path.replaceAll("^/+|/+$", "").split("/");
+
+        if (path.equals("/rate_limit")) {
+            send(exchange, 200, rateLimitJson(), null);
+            return;
+        }
+
+        // Conditional requests that match are answered without using quota, like GitHub
+        if (path.equals("/user/repos") && reposEtag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.getResponseHeaders().set("ETag", reposEtag());
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        if (throttled.getAndUpdate(t -> Math.max(0, t - 1)) > 0) {
+            exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+            send(exchange, 429, "{\"message\":\"You have exceeded a secondary rate limit\"}", null);
+            return;
+        }
+
+        if (remaining.getAndUpdate(r -> Math.max(0, r - 1)) <= 0) {
+            send(exchange, 403, "{\"message\":\"API rate limit exceeded\"}", null);
+            return;
+        }
+
+        if (path.equals("/user")) {
+            send(exchange, 200, userJson(), null);
+        } else if (path.equals("/user/repos")) {
+            sendRepos(exchange, query);
+        } else if (parts.length == 3 && parts[0].equals("repos") && repoIndex(parts[1], parts[2]) >= 0) {
+            send(exchange, 200, repoJson(repoIndex(parts[1], parts[2])), null);
+        } else if (parts.length == 4 && parts[0].equals("repos") && parts[3].equals("commits")
+                && repoIndex(parts[1], parts[2]) >= 0) {
+            sendCommits(exchange, parts[1] + "/" + parts[2], query);
+        } else if (parts.length == 5 && parts[0].equals("repos") && parts[3].equals("commits")
+                && repoIndex(parts[1], parts[2]) >= 0 && commitIndex(parts[4]) >= 0) {
+            send(exchange, 200, commitDetailJson(parts[1] + "/" + parts[2], commitIndex(parts[4])), null);
+        } else {
+            send(exchange, 404, "{\"message\":\"Not Found\"}", null);
+        }
+    }
+
+    /**
+     * Serves one page of the user's repositories.
+     */
+    private void sendRepos(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int perPage = pageSize(query);
+        int page = page(query);
+        int from = (page - 1) * perPage;
+        int to = Math.min(repoCount, from + perPage);
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = from; i < to; i++) {
+            if (i > from) json.append(',');
+            json.append(repoJson(i));
+        }
+        json.append(']');
+
+        exchange.getResponseHeaders().set("ETag", reposEtag());
+        send(exchange, 200, json.toString(), to < repoCount ? nextLink(exchange, page) : null);
+    }
+
+    /**
+     * @return ETag of the repository listing, which never changes for a running server
+     */
+    private String reposEtag() {
+        return "\"repos-" + login + "-" + repoCount + "\"";
+    }
+
+    /**
+     * Serves one page of commits, honouring since, until and author filters.
+     */
+    private void sendCommits(HttpExchange exchange, String fullName, Map<String, String> query) throws IOException {
+        int perPage = pageSize(query);
+        int page = page(query);
+
+        // commitTimes is newest first, so the time window is a contiguous index range
+        int lo = query.containsKey("until") ? firstAtOrBefore(Instant.parse(query.get("until")).getEpochSecond()) : 0;
+        int hi = query.containsKey("since") ? firstAtOrBefore(Instant.parse(query.get("since")).getEpochSecond() - 1) : commitTimes.length;
+
+        String author = query.get("author");
+        boolean ownOnly = login.equals(author);
+        boolean othersOnly = author != null && !ownOnly;
+
+        int total = ownOnly ? ownBefore(hi) - ownBefore(lo)
+                : othersOnly ? (hi - lo) - (ownBefore(hi) - ownBefore(lo))
+                : hi - lo;
+        int from = (page - 1) * perPage;
+        int to = Math.min(total, from + perPage);
+
+        StringBuilder json = new StringBuilder("[");
+        for (int k = from; k < to; k++) {
+            int index = ownOnly ? nthOwn(ownBefore(lo) + k)
+                    : othersOnly ? nthOther((lo - ownBefore(lo)) + k)
+                    : lo + k;
+            if (k > from) json.append(',');
+            json.append(commitJson(fullName, index));
+        }
+        json.append(']');
+
+        send(exchange, 200, json.toString(), to < total ? nextLink(exchange, page) : null);
+    }
+
+    /**
+     * @return Index of the first commit at or before the epoch second
+     */
+    private int firstAtOrBefore(long epochSecond) {
+        int lo = 0, hi = commitTimes.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (commitTimes[mid] > epochSecond) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return Number of commits by the user among indexes [0, index)
+     */
+    private int ownBefore(int index) {
+        return (index / 5) * 4 + Math.min(index % 5, 4);
+    }
+
+    /**
+     * @return Index of the n-th commit by the user
+     */
+    private int nthOwn(int n) {
+        return (n / 4) * 5 + n % 4;
+    }
+
+    /**
+     * @return Index of the n-th commit by another author
+     */
+    private int nthOther(int n) {
+        return n * 5 + 4;
+    }
+
+    /**
+     * @return Repository index for an owner/name pair, or -1 if it does not exist
+     */
+    private int repoIndex(String owner, String name) {
+        if (!owner.equals(login) || !name.startsWith("repo-")) return -1;
+        try {
+            int index = Integer.parseInt(name.substring(5));
+            return index >= 0 && index < repoCount ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String userJson() {
+        return "{\"login\":\"" + login + "\",\"id\":1,\"type\":\"User\","
+                + "\"url\":\"" + getApiUrl() + "/users/" + login + "\","
+                + "\"html_url\":\"https://github.com/" + login + "\"}";
+    }
+
+    private String repoJson(int index) {
+        String name = "repo-" + index;
+        String fullName = login + "/" + name;
+        String pushedAt = Instant.ofEpochSecond(commitTimes.length > 0 ? commitTimes[0] : rateLimitReset).toString();
+        return "{\"id\":" + (index + 1) + ",\"name\":\"" + name + "\",\"full_name\":\"" + fullName + "\","
+                + "\"owner\":{\"login\":\"" + login + "\",\"id\":1,\"type\":\"User\"},"
+                + "\"private\":false,\"default_branch\":\"main\","
+                + "\"url\":\"" + getApiUrl() + "/repos/" + fullName + "\","
+                + "\"html_url\":\"https://github.com/" + fullName + "\","
+                + "\"pushed_at\":\"" + pushedAt + "\"}";
+    }
+
+    private String commitJson(String fullName, int index) {
+        String sha = sha(fullName, index);
+        String author = index % 5 == 4 ? OTHER_AUTHOR : login;
+        String date = Instant.ofEpochSecond(commitTimes[index]).toString();
+        String person = "{\"name\":\"" + author + "\",\"email\":\"" + author + "@example.com\",\"date\":\"" + date + "\"}";
+        return "{\"sha\":\"" + sha + "\","
+                + "\"url\":\"" + getApiUrl() + "/repos/" + fullName + "/commits/" + sha + "\","
+                + "\"html_url\":\"https://github.com/" + fullName + "/commit/" + sha + "\","
+                + "\"commit\":{\"message\":\"Synthetic commit " + index + " in " + fullName + "\","
+                + "\"author\":" + person + ",\"committer\":" + person + "},"
+                + "\"author\":{\"login\":\"" + author + "\"},\"committer\":{\"login\":\"" + author + "\"},"
+                + "\"parents\":[]}";
+    }
+
+    /**
+     * A single commit with the stats and files GitHub only returns from the commit endpoint.
+     */
+    private String commitDetailJson(String fullName, int index) {
+        int additions = index * 7 % 120 + 1;
+        int deletions = index * 3 % 40;
+        int fileCount = index % 6 + 1;
+
+        StringBuilder files = new StringBuilder("[");
+        for (int f = 0; f < fileCount; f++) {
+            if (f > 0) files.append(',');
+            int fileAdditions = additions / fileCount + (f == 0 ? additions % fileCount : 0);
+            int fileDeletions = deletions / fileCount + (f == 0 ? deletions % fileCount : 0);
+            files.append("{\"filename\":\"src/File").append(f).append(".java\",\"status\":\"modified\",")
+                    .append("\"additions\":").append(fileAdditions)
+                    .append(",\"deletions\":").append(fileDeletions)
+                    .append(",\"changes\":").append(fileAdditions + fileDeletions).append('}');
+        }
+        files.append(']');
+
+        String commit = commitJson(fullName, index);
+        return commit.substring(0, commit.length() - 1)
+                + ",\"stats\":{\"additions\":" + additions + ",\"deletions\":" + deletions
+                + ",\"total\":" + (additions + deletions) + "},\"files\":" + files + "}";
+    }
+
+    private String rateLimitJson() {
+        String core = "{\"limit\":" + rateLimit + ",\"remaining\":" + remaining.get()
+                + ",\"reset\":" + rateLimitReset + ",\"used\":" + (rateLimit - remaining.get()) + "}";
+        // The client expects every resource GitHub reports, not only core
+        return "{\"resources\":{\"core\":" + core + ",\"search\":" + core + ",\"graphql\":" + core
+                + ",\"integration_manifest\":" + core + "},\"rate\":" + core + "}";
+    }
+
+    /**
+     * @return Index of the commit a SHA was generated for, or -1 if it is not one
+     */
+    private int commitIndex(String sha) {
+        if (sha.length() != 40) return -1;
+        try {
+            int index = Integer.parseUnsignedInt(sha.substring(8, 16), 16);
+            return index >= 0 && index < commitTimes.length ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return A stable 40 character hex SHA for a commit
+     */
+    private String sha(String fullName, int index) {
+        String seed = String.format("%08x%08x", fullName.hashCode(), index);
+        char[] sha = new char[40];
+        for (int i = 0; i < 40; i++) sha[i] = seed.charAt(i % seed.length());
+        return new String(sha);
+    }
+
+    private String nextLink(HttpExchange exchange, int page) {
+        String raw = exchange.getRequestURI().getRawQuery();
+        String query = raw == null ? "" : raw.replaceAll("(^|&)page=\\d+", "");
+        if (query.startsWith("&")) query = query.substring(1);
+        String next = getApiUrl() + exchange.getRequestURI().getPath() + "?"
+                + (query.isEmpty() ? "" : query + "&") + "page=" + (page + 1);
+        return "<" + next + ">; rel=\"next\"";
+    }
+
+    private int pageSize(Map<String, String> query) {
+        int size = Integer.parseInt(query.getOrDefault("per_page", "30"));
+        return Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+    }
+
+    private int page(Map<String, String> query) {
+        return Math.max(1, Integer.parseInt(query.getOrDefault("page", "1")));
+    }
+
+    private Map<String, String> parseQuery(String raw) {
+        Map<String, String> query = new HashMap<>();
+        if (raw == null || raw.isEmpty()) return query;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0) continue;
+            query.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    /**
+     * Writes a JSON response with GitHub's rate-limit headers.
+     */
+    private void send(HttpExchange exchange, int status, String body, String link) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        var headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        headers.set("X-RateLimit-Limit", String.valueOf(rateLimit));
+        headers.set("X-RateLimit-Remaining", String.valueOf(remaining.get()));
+        headers.set("X-RateLimit-Reset", String.valueOf(rateLimitReset));
+        headers.set("X-RateLimit-Used", String.valueOf(rateLimit - remaining.get()));
+        headers.set("X-RateLimit-Resource", "core");
+        if (link != null) headers.set("Link", link);
+
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
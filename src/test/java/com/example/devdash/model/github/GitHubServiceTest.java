@@ -0,0 +1,104 @@
+package com.example.devdash.model.github;
+
+import com.example.devdash.helper.data.SqliteConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs GitHubService against FakeGitHubServer, with the local caches in a
+ * temporary database.
+ *
+ * Author: Alexander Sukhin
+ * Version: 19/10/2026
+ */
+class GitHubServiceTest {
+
+    private static final int REPOS = 5;
+    private static final int COMMITS_PER_REPO = 2000;
+    private static final int PAGE_SIZE = 100;
+    private static final int RECENT_LIMIT = 50;
+    private static final int TOTAL_LIMIT = 300;
+
+    @TempDir
+    static Path databaseDir;
+
+    private FakeGitHubServer server;
+
+    @BeforeAll
+    static void useTemporaryDatabase() {
+        System.setProperty(SqliteConnection.URL_PROPERTY,
+                "jdbc:sqlite:" + databaseDir.resolve("devdash-test.db"));
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) server.stop();
+    }
+
+    /**
+     * Each test signs in as its own user, so it starts with cold caches.
+     */
+    private GitHubService connect(String login) throws IOException {
+        server = new FakeGitHubServer(login, REPOS, COMMITS_PER_REPO, 0, 5000);
+        GitHubService service = new GitHubService("fake-token", server.getApiUrl());
+        assertEquals(login, service.connect());
+        server.resetCounters();
+        return service;
+    }
+
+    private CommitSummary fetch(GitHubService service) throws IOException {
+        return service.fetchCommitSummary(null, LocalDate.now().minusYears(1), null,
+                RECENT_LIMIT, TOTAL_LIMIT, null);
+    }
+
+    @Test
+    void stopsPagingOnceTheLimitIsReached() throws IOException {
+        GitHubService service = connect("limited");
+
+        CommitSummary summary = fetch(service);
+
+        assertEquals(TOTAL_LIMIT, summary.getTotal());
+        assertEquals(RECENT_LIMIT, summary.getRecentCommits().size());
+        // A full pass over the year would read several pages from every repository
+        int pagesPerRepo = TOTAL_LIMIT / PAGE_SIZE + 1;
+        assertTrue(server.getQuotaUsed() <= 1 + REPOS * pagesPerRepo,
+                "used " + server.getQuotaUsed() + " requests");
+    }
+
+    @Test
+    void warmRunIsServedFromTheCache() throws IOException {
+        GitHubService service = connect("cached");
+        CommitSummary cold = fetch(service);
+
+        server.resetCounters();
+        CommitSummary warm = fetch(service);
+
+        assertEquals(0, server.getQuotaUsed());
+        assertEquals(cold.getTotal(), warm.getTotal());
+        assertEquals(cold.getRecentCommits().get(0).getSha(), warm.getRecentCommits().get(0).getSha());
+    }
+
+    @Test
+    void backsOffWhenRateLimited() throws IOException {
+        GitHubService service = connect("throttled");
+        // Only the per-repository fetches are retried, so list the repositories beforehand
+        assertEquals(REPOS, service.listRepositoryNames().size());
+        server.throttle(2, 1);
+
+        long begin = System.nanoTime();
+        CommitSummary summary = fetch(service);
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        assertEquals(TOTAL_LIMIT, summary.getTotal());
+        assertTrue(elapsedMillis >= 1000, "retried after " + elapsedMillis + " ms");
+    }
+}